@@ -0,0 +1,42 @@
+package com.management.project.config;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reports finished spans of sampled traces as one key=value log line each, e.g.
+ * {@code trace=64f1.. span=9a2c.. parent=1b7e.. name="find" durationMs=1.84 db.mongodb.collection=tasks}.
+ * Lines go through the asynchronous appender, and only sampled requests produce them; set the
+ * level of this logger to WARN to turn them off.
+ */
+public class LoggingSpanHandler extends SpanHandler {
+    private static final Logger logger = LoggerFactory.getLogger(LoggingSpanHandler.class);
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause != Cause.FINISHED || !logger.isInfoEnabled()) {
+            return true;
+        }
+
+        StringBuilder line = new StringBuilder(256)
+                .append("trace=").append(span.traceId())
+                .append(" span=").append(span.id());
+        if (span.parentId() != null) {
+            line.append(" parent=").append(span.parentId());
+        }
+        line.append(" name=\"").append(span.name()).append('"');
+        if (span.kind() != null) {
+            line.append(" kind=").append(span.kind());
+        }
+        line.append(" durationMs=").append(String.format("%.2f", (span.finishTimestamp() - span.startTimestamp()) / 1000.0));
+        span.forEachTag((builder, key, value) -> builder.append(' ').append(key).append('=').append(value), line);
+        if (span.error() != null) {
+            line.append(" error=").append(span.error().getClass().getSimpleName());
+        }
+        logger.info(line.toString());
+        return true;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.management.project.config;
+
+import com.management.project.security.PasswordHashingService;
+import com.management.project.security.ProjectAccessService;
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import com.management.project.services.NotificationCounterService;
+import com.management.project.services.NotificationEmitterRegistry;
+import com.management.project.services.UserDirectory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Meters for the in-process caches, the password hashing pool, the user directory and the
+ * notification streams. Request, repository and
+ * Mongo command timers come from the actuator auto-configuration; see application.properties.
+ */
+@Configuration
+public class MetricsConfig {
+
+    // cache.gets{result=hit|miss}, cache.evictions and cache.size per cache
+    @Bean
+    public MeterBinder cacheMetrics(JwtAuthenticationCache authenticationCache,
+                                    ProjectAccessService projectAccessService,
+                                    NotificationCounterService notificationCounterService) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, authenticationCache.getCache(), "jwtAuthentication");
+            CaffeineCacheMetrics.monitor(registry, projectAccessService.getCache(), "projectAccess");
+            CaffeineCacheMetrics.monitor(registry, notificationCounterService.getCache(), "notificationCounters");
+        };
+    }
+
+    // executor.queued, executor.active and executor.pool.size for the signin/signup hashing pool
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingService passwordHashingService) {
+        return new ExecutorServiceMetrics(passwordHashingService.getExecutor(), "passwordHashing", Tags.empty());
+    }
+
+    @Bean
+    public MeterBinder userDirectoryMetrics(UserDirectory userDirectory) {
+        return registry -> Gauge.builder("users.directory.size", userDirectory, UserDirectory::size)
+                .description("Users in the in-memory search index")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder notificationStreamMetrics(NotificationEmitterRegistry emitterRegistry) {
+        return registry -> {
+            Gauge.builder("notifications.streams.open", emitterRegistry,
+                            NotificationEmitterRegistry::getConnectionCount)
+                    .description("Open notification event streams")
+                    .register(registry);
+            new ExecutorServiceMetrics(emitterRegistry.getHeartbeatExecutor(), "notificationHeartbeat", Tags.empty())
+                    .bindTo(registry);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.management.project.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+/**
+ * Request tracing. The actuator traces every HTTP request and the security filter chain; this
+ * adds a child span for each Mongo command, so a sampled trace shows how a request's time
+ * splits between the filters, the controller and the database. The share of requests that is
+ * traced is set by {@code management.tracing.sampling.probability}.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoObservation(ObservationRegistry observationRegistry) {
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+
+    @Bean
+    public LoggingSpanHandler loggingSpanHandler() {
+        return new LoggingSpanHandler();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.management.project.controllers;
+
+import com.management.project.payload.response.DashboardSummary;
+import com.management.project.repositories.ProjectRepository;
+import com.management.project.repositories.TaskRepository;
+import com.management.project.security.AuthenticatedUser;
+import com.management.project.security.CurrentUser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+public class DashboardController {
+    @Autowired
+    private ProjectRepository projectRepository;
+    
+    @Autowired
+    private TaskRepository taskRepository;
+    
+    // Project count and assigned task statistics for the current user's dashboard
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(@CurrentUser AuthenticatedUser user) {
+        DashboardSummary summary = new DashboardSummary(
+                projectRepository.countForUser(user.getId()),
+                taskRepository.statsByAssignedToId(user.getId()));
+        
+        return ResponseEntity.ok(summary);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.management.project.controllers;
+
+import com.management.project.models.Project;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Entity tags built from the change counters of {@link Project}, so a conditional read can be
+ * answered before the documents it would return are loaded. They are weak: one tag covers the
+ * JSON, Smile and CBOR forms of a resource, and Tomcat does not compress responses that carry
+ * a strong tag.
+ */
+public final class ETags {
+    private ETags() {
+    }
+
+    public static String project(String projectId, long revision) {
+        return quote("p-" + projectId + "-" + revision);
+    }
+
+    public static String tasks(String projectId, long tasksRevision) {
+        return quote("t-" + projectId + "-" + tasksRevision);
+    }
+
+    // A digest of the id and revision of every project on a page of the user's list; it changes
+    // when any of them changes, or when a project moves into or out of the page
+    public static String projects(List<Project> projects) {
+        MessageDigest digest = sha256();
+        projects.stream()
+                .sorted(Comparator.comparing(Project::getId))
+                .forEach(project -> digest.update((project.getId() + ":" + project.getRevision() + ";")
+                        .getBytes(StandardCharsets.UTF_8)));
+        return quote("l-" + HexFormat.of().formatHex(digest.digest(), 0, 16));
+    }
+
+    private static String quote(String tag) {
+        return "W/\"" + tag + "\"";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
\ No newline at end of file
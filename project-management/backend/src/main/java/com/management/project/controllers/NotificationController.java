@@ -0,0 +1,112 @@
+package com.management.project.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.models.Notification;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.payload.response.MessageResponse;
+import com.management.project.repositories.NotificationRepository;
+import com.management.project.security.AuthenticatedUser;
+import com.management.project.security.CurrentUser;
+import com.management.project.security.StreamTicketService;
+import com.management.project.services.NotificationCounterService;
+import com.management.project.services.NotificationEmitterRegistry;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+    @Autowired
+    private NotificationRepository notificationRepository;
+    
+    @Autowired
+    private NotificationEmitterRegistry emitterRegistry;
+    
+    @Autowired
+    private NotificationCounterService counterService;
+    
+    @Autowired
+    private StreamTicketService streamTicketService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Get the current user's notifications, newest first, one page at a time
+    @GetMapping
+    public ResponseEntity<?> getNotifications(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit,
+                                              @RequestParam(defaultValue = "false") boolean unread,
+                                              @CurrentUser AuthenticatedUser user) {
+        try {
+            PageQuery pageQuery = PageQuery.of(cursor, limit, null, null);
+            CursorPage<Notification> page = notificationRepository.findPageByUserId(user.getId(), unread, pageQuery);
+            
+            return PagedResponses.of(page, pageQuery, objectMapper);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+    
+    // Unread count for the notification badge, read from the counter rather than counted
+    @GetMapping("/unread-count")
+    public ResponseEntity<?> getUnreadCount(@CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(Map.of("unread", counterService.getUnread(user.getId())));
+    }
+    
+    // Mark one notification as read
+    @PutMapping("/{id}/read")
+    public ResponseEntity<?> markAsRead(@PathVariable String id, @CurrentUser AuthenticatedUser user) {
+        String userId = user.getId();
+        long marked = notificationRepository.markRead(id, userId);
+        counterService.decrement(userId, marked);
+        
+        return ResponseEntity.ok(Map.of("unread", counterService.getUnread(userId)));
+    }
+    
+    // Mark all notifications as read with a single update; the counter is recounted rather than
+    // decremented, which also clears any drift
+    @PutMapping("/read-all")
+    public ResponseEntity<?> markAllAsRead(@CurrentUser AuthenticatedUser user) {
+        String userId = user.getId();
+        long marked = notificationRepository.markAllRead(userId);
+        
+        return ResponseEntity.ok(Map.of("marked", marked, "unread", counterService.recount(userId)));
+    }
+    
+    // Issue a single-use ticket for opening the stream; EventSource cannot send the Authorization
+    // header, and the ticket keeps the token itself out of the stream URL
+    @PostMapping("/stream-ticket")
+    public ResponseEntity<?> createStreamTicket(@CurrentUser AuthenticatedUser user) {
+        return ResponseEntity.ok(Map.of("ticket", streamTicketService.issue(user.getUsername())));
+    }
+    
+    // Stream new notifications as Server-Sent Events. Browsers reconnect on their own and send the
+    // id of the last event they received, and everything after it is replayed first.
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamNotifications(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                          @RequestParam(value = "lastEventId", required = false) String lastEventIdParam,
+                                          @CurrentUser AuthenticatedUser user) {
+        String userId = user.getId();
+        SseEmitter emitter = emitterRegistry.register(userId);
+        
+        // Registered before replaying, so nothing published in between is missed; clients ignore ids
+        // they already have
+        String resumeAfter = lastEventId != null ? lastEventId : lastEventIdParam;
+        if (resumeAfter != null && ObjectId.isValid(resumeAfter)) {
+            for (Notification missed : notificationRepository
+                    .findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(userId, new ObjectId(resumeAfter))) {
+                emitterRegistry.send(userId, emitter, missed);
+            }
+        }
+        
+        return emitter;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.management.project.controllers;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a page as a plain JSON array; the cursor for the next page travels in the
+ * {@value #NEXT_CURSOR_HEADER} header, which clients follow until it is absent to read a
+ * whole list (see fetchAllPages in the frontend's auth.js).
+ */
+public final class PagedResponses {
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final TypeReference<LinkedHashMap<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private PagedResponses() {
+    }
+
+    public static ResponseEntity<?> of(CursorPage<?> page, PageQuery query, ObjectMapper objectMapper) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+
+        if (!query.hasFields()) {
+            return response.body(page.getItems());
+        }
+
+        // Only return the requested properties (and the id) rather than nulls for the rest
+        List<Map<String, Object>> projected = page.getItems().stream()
+                .map(item -> {
+                    Map<String, Object> values = objectMapper.convertValue(item, MAP_TYPE);
+                    values.keySet().removeIf(key -> !key.equals("id") && !isRequested(key, query));
+                    return values;
+                })
+                .toList();
+        return response.body(projected);
+    }
+
+    // Boolean properties such as isProblemStatementApproved are written by Jackson without "is"
+    private static boolean isRequested(String jsonKey, PageQuery query) {
+        return query.getFields().contains(jsonKey)
+                || query.getFields().contains("is" + StringUtils.capitalize(jsonKey));
+    }
+}
\ No newline at end of file
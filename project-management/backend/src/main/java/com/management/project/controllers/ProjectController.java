@@ -1,19 +1,36 @@
 package com.management.project.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.management.project.models.Project;
 import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.MemberChangeRequest;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.payload.response.MemberChangeResponse;
 import com.management.project.payload.response.MessageResponse;
 import com.management.project.repositories.ProjectRepository;
 import com.management.project.repositories.UserRepository;
+import com.management.project.security.AuthenticatedUser;
+import com.management.project.security.CurrentUser;
+import com.management.project.security.ProjectAccessService;
+import com.management.project.services.NotificationService;
+import com.management.project.services.ProjectStatsService;
+import com.management.project.services.SummarySyncService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/projects")
@@ -21,59 +38,95 @@ public class ProjectController {
     @Autowired
     private ProjectRepository projectRepository;
     
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
     @Autowired
     private UserRepository userRepository;
     
-    // Get all projects for the current user (leader or member)
+    @Autowired
+    private ProjectAccessService projectAccessService;
+    
+    @Autowired
+    private NotificationService notificationService;
+    
+    @Autowired
+    private SummarySyncService summarySyncService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Get all projects for the current user (leader or member). Polling clients send the ETag back
+    // in If-None-Match and get a 304 once the revisions of the requested page show nothing has
+    // changed; only that page is read to build the tag.
     @GetMapping
-    public ResponseEntity<?> getAllProjects() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
-        List<Project> leaderProjects = projectRepository.findByLeader(user);
-        List<Project> memberProjects = projectRepository.findByMembersContaining(user);
-        
-        // Combine both lists without duplicates
-        leaderProjects.forEach(project -> {
-            if (!memberProjects.contains(project)) {
-                memberProjects.add(project);
+    public ResponseEntity<?> getAllProjects(@RequestParam(required = false) String cursor,
+                                            @RequestParam(required = false) Integer limit,
+                                            @RequestParam(required = false) String sort,
+                                            @RequestParam(required = false) String fields,
+                                            @CurrentUser AuthenticatedUser user, WebRequest request) {
+        try {
+            PageQuery pageQuery = PageQuery.of(cursor, limit, sort, fields);
+            List<Project> revisions = projectRepository.findPageRevisionsForUser(user.getId(), pageQuery);
+            if (request.checkNotModified(ETags.projects(revisions))) {
+                return null;
             }
-        });
-        
-        return ResponseEntity.ok(memberProjects);
+            
+            CursorPage<Project> page = projectRepository.findPageForUser(user.getId(), pageQuery);
+            
+            return PagedResponses.of(page, pageQuery, objectMapper);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
     }
     
-    // Get a project by id
+    // Get a project by id; a matching If-None-Match is answered with a 304 from the revision alone
     @GetMapping("/{id}")
-    public ResponseEntity<?> getProjectById(@PathVariable String id) {
+    public ResponseEntity<?> getProjectById(@PathVariable String id, WebRequest request) {
+        Long revision = projectRepository.findRevision(id);
+        if (revision != null && request.checkNotModified(ETags.project(id, revision))) {
+            return null;
+        }
+        
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Error: Project not found."));
         
         return ResponseEntity.ok(project);
     }
     
+    // Task counts per status, overdue tasks, average progress and open tasks per member for a project
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<?> getProjectStats(@PathVariable String id, @CurrentUser AuthenticatedUser user) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
+        
+        // Check if user is a member or leader of the project
+        if (!projectAccessService.isMemberOrLeader(id, user.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: You are not a member of this project."));
+        }
+        
+        return ResponseEntity.ok(projectStatsService.getStats(id));
+    }
+    
     // Create a new project (only for leaders)
     @PostMapping
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> createProject(@RequestBody Project projectRequest) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
+    public ResponseEntity<?> createProject(@RequestBody Project projectRequest,
+                                           @CurrentUser AuthenticatedUser leader) {
         Project project = new Project();
         project.setName(projectRequest.getName());
         project.setDescription(projectRequest.getDescription());
         project.setProblemStatement(projectRequest.getProblemStatement());
-        project.setLeader(leader);
+        project.setLeaderId(leader.getId());
+        project.setLeader(UserSummary.of(leader.getUser()));
         project.setCreatedAt(LocalDateTime.now());
         project.setUpdatedAt(LocalDateTime.now());
         project.setProblemStatementApproved(false);
-        project.getMembers().add(leader);
+        project.getMemberIds().add(leader.getId());
+        project.getMembers().add(UserSummary.of(leader.getUser()));
         
         Project savedProject = projectRepository.save(project);
         
@@ -83,28 +136,25 @@ public class ProjectController {
     // Update a project (only for leaders)
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> updateProject(@PathVariable String id, @RequestBody Project projectRequest) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
+    public ResponseEntity<?> updateProject(@PathVariable String id, @RequestBody Project projectRequest,
+                                           @CurrentUser AuthenticatedUser leader) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(id, leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
-        project.setName(projectRequest.getName());
-        project.setDescription(projectRequest.getDescription());
-        project.setProblemStatement(projectRequest.getProblemStatement());
-        project.setUpdatedAt(LocalDateTime.now());
-        
-        Project updatedProject = projectRepository.save(project);
+        Project updatedProject = projectRepository.updateDetails(id, projectRequest.getName(),
+                projectRequest.getDescription(), projectRequest.getProblemStatement(), LocalDateTime.now());
+        if (updatedProject == null) {
+            throw new RuntimeException("Error: Project not found.");
+        }
+        // Not a save, so the listener that refreshes the summaries embedded in tasks does not run
+        summarySyncService.refreshProjectSummaries(updatedProject);
         
         return ResponseEntity.ok(updatedProject);
     }
@@ -112,26 +162,21 @@ public class ProjectController {
     // Approve problem statement (only for leaders)
     @PutMapping("/{id}/approve-problem-statement")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> approveProblemStatement(@PathVariable String id) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
+    public ResponseEntity<?> approveProblemStatement(@PathVariable String id,
+                                                     @CurrentUser AuthenticatedUser leader) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(id, leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
-        project.setProblemStatementApproved(true);
-        project.setUpdatedAt(LocalDateTime.now());
-        
-        Project updatedProject = projectRepository.save(project);
+        if (projectRepository.approveProblemStatement(id, LocalDateTime.now()) == null) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         return ResponseEntity.ok(new MessageResponse("Problem statement approved successfully!"));
     }
@@ -139,56 +184,165 @@ public class ProjectController {
     // Add a member to a project (only for leaders)
     @PostMapping("/{id}/members/{userId}")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> addMemberToProject(@PathVariable String id, @PathVariable String userId) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
+    public ResponseEntity<?> addMemberToProject(@PathVariable String id, @PathVariable String userId,
+                                                @CurrentUser AuthenticatedUser leader) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Error: User not found."));
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        // Check if the current user is the leader of this project
+        if (!projectAccessService.isLeader(id, leader.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: You are not the leader of this project."));
+        }
+        
+        if (projectAccessService.isMember(id, user.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: User is already a member of this project."));
+        }
+        
+        boolean added = projectRepository.addMembers(id, leader.getId(), List.of(UserSummary.of(user)),
+                LocalDateTime.now());
+        projectAccessService.evict(id);
+        if (!added) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Project members were changed by someone else. Please reload and try again."));
+        }
+        notificationService.addedToProject(id, List.of(user.getId()));
         
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: Leader not found."));
+        return ResponseEntity.ok(new MessageResponse("User added to project successfully!"));
+    }
+    
+    // Add several members to a project in one update (only for leaders)
+    @PostMapping("/{id}/members")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<?> addMembersToProject(@PathVariable String id, @RequestBody List<String> userIds,
+                                                 @CurrentUser AuthenticatedUser leader) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(id, leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
-        if (project.getMembers().contains(user)) {
+        // Look all users up in one query and sort every requested id into one outcome
+        Set<String> requested = new LinkedHashSet<>(userIds);
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(requested).forEach(user -> users.put(user.getId(), user));
+        
+        MemberChangeResponse response = new MemberChangeResponse();
+        List<UserSummary> toAdd = new ArrayList<>();
+        for (String userId : requested) {
+            if (!users.containsKey(userId)) {
+                response.getNotFound().add(userId);
+            } else if (projectAccessService.isMember(id, userId)) {
+                response.getAlreadyMembers().add(userId);
+            } else {
+                response.getAdded().add(userId);
+                toAdd.add(UserSummary.of(users.get(userId)));
+            }
+        }
+        
+        boolean added = projectRepository.addMembers(id, leader.getId(), toAdd, LocalDateTime.now());
+        projectAccessService.evict(id);
+        if (!added) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Project members were changed by someone else. Please reload and try again."));
+        }
+        notificationService.addedToProject(id, response.getAdded());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Add and remove several members of a project in one update (only for leaders)
+    @PatchMapping("/{id}/members")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<?> changeProjectMembers(@PathVariable String id, @RequestBody MemberChangeRequest request,
+                                                  @CurrentUser AuthenticatedUser leader) {
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
+        
+        // Check if the current user is the leader of this project
+        if (!leader.getId().equals(project.getLeaderId())) {
             return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: User is already a member of this project."));
+                    .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
-        project.getMembers().add(user);
-        project.setUpdatedAt(LocalDateTime.now());
+        Set<String> toAdd = new LinkedHashSet<>(request.getAdd());
+        Set<String> toRemove = new LinkedHashSet<>(request.getRemove());
+        if (toRemove.contains(leader.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: Leader cannot be removed from project."));
+        }
+        if (toAdd.stream().anyMatch(toRemove::contains)) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: A user cannot be both added and removed."));
+        }
         
-        projectRepository.save(project);
+        // Look all added users up in one query and sort every requested id into one outcome
+        Map<String, User> users = new HashMap<>();
+        userRepository.findAllById(toAdd).forEach(user -> users.put(user.getId(), user));
+        
+        MemberChangeResponse response = new MemberChangeResponse();
+        Set<String> memberIds = new LinkedHashSet<>(project.getMemberIds());
+        Set<UserSummary> members = new LinkedHashSet<>(project.getMembers());
+        for (String userId : toRemove) {
+            if (memberIds.remove(userId)) {
+                response.getRemoved().add(userId);
+            } else {
+                response.getNotMembers().add(userId);
+            }
+        }
+        members.removeIf(member -> response.getRemoved().contains(member.getId()));
+        for (String userId : toAdd) {
+            if (!users.containsKey(userId)) {
+                response.getNotFound().add(userId);
+            } else if (memberIds.contains(userId)) {
+                response.getAlreadyMembers().add(userId);
+            } else {
+                response.getAdded().add(userId);
+                memberIds.add(userId);
+                members.add(UserSummary.of(users.get(userId)));
+            }
+        }
         
-        return ResponseEntity.ok(new MessageResponse("User added to project successfully!"));
+        if (response.getAdded().isEmpty() && response.getRemoved().isEmpty()) {
+            return ResponseEntity.ok(response);
+        }
+        
+        boolean changed = projectRepository.changeMembers(id, leader.getId(), project.getRevision(), memberIds,
+                members, LocalDateTime.now());
+        projectAccessService.evict(id);
+        if (!changed) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Project members were changed by someone else. Please reload and try again."));
+        }
+        notificationService.addedToProject(id, response.getAdded());
+        response.getRemoved().forEach(userId -> notificationService.removedFromProject(id, userId));
+        
+        return ResponseEntity.ok(response);
     }
     
     // Remove a member from a project (only for leaders)
     @DeleteMapping("/{id}/members/{userId}")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> removeMemberFromProject(@PathVariable String id, @PathVariable String userId) {
-        Project project = projectRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
+    public ResponseEntity<?> removeMemberFromProject(@PathVariable String id, @PathVariable String userId,
+                                                     @CurrentUser AuthenticatedUser leader) {
+        if (!projectAccessService.exists(id)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Error: User not found."));
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: Leader not found."));
-        
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(id, leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
@@ -199,15 +353,13 @@ public class ProjectController {
                     .body(new MessageResponse("Error: Leader cannot be removed from project."));
         }
         
-        if (!project.getMembers().contains(user)) {
+        boolean removed = projectRepository.removeMember(id, leader.getId(), user.getId(), LocalDateTime.now());
+        projectAccessService.evict(id);
+        if (!removed) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: User is not a member of this project."));
         }
-        
-        project.getMembers().remove(user);
-        project.setUpdatedAt(LocalDateTime.now());
-        
-        projectRepository.save(project);
+        notificationService.removedFromProject(id, user.getId());
         
         return ResponseEntity.ok(new MessageResponse("User removed from project successfully!"));
     }
@@ -215,24 +367,19 @@ public class ProjectController {
     // Delete a project (only for leaders)
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> deleteProject(@PathVariable String id) {
+    public ResponseEntity<?> deleteProject(@PathVariable String id, @CurrentUser AuthenticatedUser leader) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Error: Project not found."));
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(project.getId(), leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
         // Delete the project
         projectRepository.delete(project);
+        projectStatsService.delete(id);
         
         return ResponseEntity.ok(new MessageResponse("Project deleted successfully!"));
     }
@@ -1,22 +1,50 @@
 package com.management.project.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
 import com.management.project.models.Task;
 import com.management.project.models.TaskStatus;
 import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.BulkStatusRequest;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.request.TaskBatchRequest;
+import com.management.project.payload.response.BatchResponse;
+import com.management.project.payload.response.CursorPage;
 import com.management.project.payload.response.MessageResponse;
 import com.management.project.repositories.ProjectRepository;
 import com.management.project.repositories.TaskRepository;
 import com.management.project.repositories.UserRepository;
+import com.management.project.security.AuthenticatedUser;
+import com.management.project.security.CurrentUser;
+import com.management.project.security.ProjectAccessService;
+import com.management.project.services.NotificationService;
+import com.management.project.services.ProjectStatsService;
+import com.management.project.services.TaskExportService;
+import jakarta.validation.Valid;
+import org.bson.types.ObjectId;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/tasks")
@@ -30,58 +58,127 @@ public class TaskController {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private ProjectAccessService projectAccessService;
+    
+    @Autowired
+    private ProjectStatsService projectStatsService;
+    
+    @Autowired
+    private NotificationService notificationService;
+    
+    @Autowired
+    private TaskExportService taskExportService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${app.tasks.maxBatchSize:500}")
+    private int maxBatchSize;
+    
     // Get all tasks for the current user (assigned to them)
     @GetMapping("/my-tasks")
-    public ResponseEntity<?> getMyTasks() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
-        List<Task> tasks = taskRepository.findByAssignedTo(user);
-        
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<?> getMyTasks(@RequestParam(required = false) String cursor,
+                                        @RequestParam(required = false) Integer limit,
+                                        @RequestParam(required = false) String sort,
+                                        @RequestParam(required = false) String fields,
+                                        @CurrentUser AuthenticatedUser user) {
+        try {
+            PageQuery pageQuery = PageQuery.of(cursor, limit, sort, fields);
+            CursorPage<Task> page = taskRepository.findPageByAssignedToId(user.getId(), pageQuery);
+            
+            return PagedResponses.of(page, pageQuery, objectMapper);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
     }
     
-    // Get all tasks for a specific project
+    // Get all tasks for a specific project; polling clients revalidate with If-None-Match and get
+    // a 304 while the project's tasks revision is unchanged
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<?> getTasksByProject(@PathVariable String projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
+    public ResponseEntity<?> getTasksByProject(@PathVariable String projectId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit,
+                                               @RequestParam(required = false) String sort,
+                                               @RequestParam(required = false) String fields,
+                                               @CurrentUser AuthenticatedUser user, WebRequest request) {
+        if (!projectAccessService.exists(projectId)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
         
         // Check if user is a member or leader of the project
-        if (!project.getMembers().contains(user) && !project.getLeader().getId().equals(user.getId())) {
+        if (!projectAccessService.isMemberOrLeader(projectId, user.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not a member of this project."));
         }
         
-        List<Task> tasks = taskRepository.findByProject(project);
+        Long tasksRevision = projectRepository.findTasksRevision(projectId);
+        if (tasksRevision != null && request.checkNotModified(ETags.tasks(projectId, tasksRevision))) {
+            return null;
+        }
+        
+        try {
+            PageQuery pageQuery = PageQuery.of(cursor, limit, sort, fields);
+            CursorPage<Task> page = taskRepository.findPageByProjectId(projectId, pageQuery);
+            
+            return PagedResponses.of(page, pageQuery, objectMapper);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: " + e.getMessage()));
+        }
+    }
+    
+    // Export all tasks of a project as NDJSON or CSV (only for leaders). The file is streamed from
+    // a database cursor, optionally gzipped, instead of being built in memory first.
+    @GetMapping("/project/{projectId}/export")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable String projectId,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @RequestParam(defaultValue = "false") boolean gzip,
+                                                             @CurrentUser AuthenticatedUser leader) {
+        TaskExportService.Format exportFormat;
+        try {
+            exportFormat = TaskExportService.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return streamedMessage(new MessageResponse("Error: Export format must be ndjson or csv."));
+        }
+        
+        if (!projectAccessService.exists(projectId)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
+        
+        // Check if the current user is the leader of this project
+        if (!projectAccessService.isLeader(projectId, leader.getId())) {
+            return streamedMessage(new MessageResponse("Error: You are not the leader of this project."));
+        }
         
-        return ResponseEntity.ok(tasks);
+        String filename = "tasks-" + projectId + "." + exportFormat.extension + (gzip ? ".gz" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+                taskExportService.export(projectId, exportFormat, compressed);
+            } else {
+                taskExportService.export(projectId, exportFormat, out);
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.contentType))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
     }
     
     // Create a new task (only for leaders)
     @PostMapping
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> createTask(@RequestBody Task taskRequest) {
+    public ResponseEntity<?> createTask(@RequestBody Task taskRequest,
+                                        @CurrentUser AuthenticatedUser leader) {
         Project project = projectRepository.findById(taskRequest.getProject().getId())
                 .orElseThrow(() -> new RuntimeException("Error: Project not found."));
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
         // Check if the current user is the leader of this project
-        if (!project.getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(project.getId(), leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
@@ -93,46 +190,195 @@ public class TaskController {
                     .orElseThrow(() -> new RuntimeException("Error: Assigned user not found."));
             
             // Check if assignee is a member of the project
-            if (!project.getMembers().contains(assignee)) {
+            if (!projectAccessService.isMember(project.getId(), assignee.getId())) {
                 return ResponseEntity.badRequest()
                         .body(new MessageResponse("Error: Assigned user is not a member of this project."));
             }
         }
         
-        Task task = new Task();
-        task.setTitle(taskRequest.getTitle());
-        task.setDescription(taskRequest.getDescription());
-        task.setStatus(TaskStatus.PENDING);
-        task.setStartDate(taskRequest.getStartDate());
-        task.setDueDate(taskRequest.getDueDate());
-        task.setProject(project);
-        task.setAssignedTo(assignee);
-        task.setProgressPercentage(0);
+        Task task = newTask(taskRequest, project, assignee, LocalDateTime.now());
         
         Task savedTask = taskRepository.save(task);
+        projectStatsService.taskCreated(savedTask);
+        projectRepository.incrementTasksRevision(List.of(savedTask.getProjectId()));
+        if (assignee != null) {
+            notificationService.taskAssigned(savedTask);
+        }
         
         return ResponseEntity.ok(savedTask);
     }
     
-    // Update a task status and progress (for members - their assigned tasks)
-    @PutMapping("/{id}/update-progress")
-    public ResponseEntity<?> updateTaskProgress(@PathVariable String id, @RequestBody Task taskRequest) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Task not found."));
+    // Create many tasks in one project (only for leaders). The project and leader are checked
+    // once, the assignees are loaded with one query and the tasks are written in one bulk insert.
+    @PostMapping("/batch")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<?> createTasks(@Valid @RequestBody TaskBatchRequest batchRequest,
+                                         @CurrentUser AuthenticatedUser leader) {
+        List<Task> taskRequests = batchRequest.getTasks();
+        if (taskRequests.size() > maxBatchSize) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: At most " + maxBatchSize + " tasks can be created at once."));
+        }
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
+        Project project = projectRepository.findById(batchRequest.getProjectId())
+                .orElseThrow(() -> new RuntimeException("Error: Project not found."));
         
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
+        // Check if the current user is the leader of this project
+        if (!projectAccessService.isLeader(project.getId(), leader.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: You are not the leader of this project."));
+        }
+        
+        // Load all assignees in one $in query
+        Set<String> assigneeIds = new HashSet<>();
+        taskRequests.forEach(taskRequest -> assigneeIds.add(assigneeIdOf(taskRequest)));
+        assigneeIds.remove(null);
+        Map<String, User> assignees = new HashMap<>();
+        userRepository.findAllById(assigneeIds).forEach(user -> assignees.put(user.getId(), user));
+        
+        // Validate every task; the valid ones get their id up front so results can report it
+        LocalDateTime now = LocalDateTime.now();
+        String[] errors = new String[taskRequests.size()];
+        Task[] tasks = new Task[taskRequests.size()];
+        List<Task> toInsert = new ArrayList<>();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < taskRequests.size(); i++) {
+            Task taskRequest = taskRequests.get(i);
+            String assigneeId = assigneeIdOf(taskRequest);
+            if (taskRequest.getTitle() == null || taskRequest.getTitle().isBlank()) {
+                errors[i] = "Error: Title is required.";
+            } else if (assigneeId != null && !assignees.containsKey(assigneeId)) {
+                errors[i] = "Error: Assigned user not found.";
+            } else if (assigneeId != null && !projectAccessService.isMember(project.getId(), assigneeId)) {
+                errors[i] = "Error: Assigned user is not a member of this project.";
+            } else {
+                Task task = newTask(taskRequest, project, assignees.get(assigneeId), now);
+                task.setId(new ObjectId().toHexString());
+                task.setVersion(0L);
+                tasks[i] = task;
+                toInsert.add(task);
+                positions.add(i);
+            }
+        }
+        
+        Map<Integer, String> writeErrors = taskRepository.insertUnordered(toInsert);
+        writeErrors.forEach((position, message) -> {
+            int index = positions.get(position);
+            errors[index] = "Error: Task could not be saved: " + message;
+            tasks[index] = null;
+        });
+        
+        BatchResponse response = new BatchResponse();
+        List<Task> created = new ArrayList<>();
+        for (int i = 0; i < tasks.length; i++) {
+            if (tasks[i] != null) {
+                response.success(i, tasks[i].getId());
+                created.add(tasks[i]);
+            } else {
+                response.failure(i, null, errors[i]);
+            }
+        }
+        
+        projectStatsService.tasksCreated(project.getId(), created);
+        projectRepository.incrementTasksRevision(List.of(project.getId()));
+        notificationService.tasksAssigned(created.stream().filter(task -> task.getAssignedToId() != null).toList());
         
-        // Check if the current user is assigned to this task or is the project leader
-        if ((task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(user.getId())) 
-                && !task.getProject().getLeader().getId().equals(user.getId())) {
+        return ResponseEntity.ok(response);
+    }
+    
+    // Approve (COMPLETED) or reject (REJECTED) many tasks under review in one project (only for
+    // leaders). The tasks are read with one query and updated in one bulk write.
+    @PutMapping("/bulk-status")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<?> updateTaskStatuses(@Valid @RequestBody BulkStatusRequest statusRequest,
+                                                @CurrentUser AuthenticatedUser leader) {
+        TaskStatus status = statusRequest.getStatus();
+        if (status != TaskStatus.COMPLETED && status != TaskStatus.REJECTED) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: Tasks can only be moved to COMPLETED or REJECTED in bulk."));
+        }
+        List<String> taskIds = statusRequest.getTaskIds();
+        if (taskIds.size() > maxBatchSize) {
             return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: You are not assigned to this task."));
+                    .body(new MessageResponse("Error: At most " + maxBatchSize + " tasks can be updated at once."));
         }
         
+        String projectId = statusRequest.getProjectId();
+        if (!projectAccessService.exists(projectId)) {
+            throw new RuntimeException("Error: Project not found.");
+        }
+        
+        // Check if the current user is the leader of this project
+        if (!projectAccessService.isLeader(projectId, leader.getId())) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: You are not the leader of this project."));
+        }
+        
+        // Load all tasks in one $in query and check each one against the review precondition
+        Map<String, Task> found = new HashMap<>();
+        taskRepository.findAllById(new HashSet<>(taskIds)).forEach(task -> found.put(task.getId(), task));
+        
+        String[] errors = new String[taskIds.size()];
+        Set<String> seen = new HashSet<>();
+        List<Task> toReview = new ArrayList<>();
+        for (int i = 0; i < taskIds.size(); i++) {
+            Task task = found.get(taskIds.get(i));
+            if (task == null || !projectId.equals(task.getProjectId())) {
+                errors[i] = "Error: Task not found in this project.";
+            } else if (!seen.add(task.getId())) {
+                errors[i] = "Error: Duplicate task id.";
+            } else if (task.getStatus() != TaskStatus.UNDER_REVIEW) {
+                errors[i] = "Error: This action is not allowed while the task is " + task.getStatus() + ".";
+            } else {
+                toReview.add(task);
+            }
+        }
+        
+        // Stored timestamps have millisecond precision, and the update is recognised by its timestamp
+        boolean approved = status == TaskStatus.COMPLETED;
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        Set<String> reviewedIds = taskRepository.review(toReview, leader.getId(), approved, now);
+        
+        List<ProjectStatsService.TaskState> before = new ArrayList<>();
+        List<Task> reviewed = new ArrayList<>();
+        for (Task task : toReview) {
+            if (reviewedIds.contains(task.getId())) {
+                before.add(ProjectStatsService.TaskState.of(task));
+                task.setStatus(status);
+                if (approved) {
+                    task.setCompletedDate(now);
+                } else {
+                    task.setProgressPercentage(75);
+                }
+                task.setUpdatedAt(now);
+                task.setVersion(nextVersion(task));
+                reviewed.add(task);
+            }
+        }
+        
+        BatchResponse response = new BatchResponse();
+        for (int i = 0; i < taskIds.size(); i++) {
+            String taskId = taskIds.get(i);
+            if (errors[i] != null) {
+                response.failure(i, taskId, errors[i]);
+            } else if (reviewedIds.contains(taskId)) {
+                response.success(i, taskId);
+            } else {
+                response.failure(i, taskId, "Error: Task was changed by someone else. Please reload and try again.");
+            }
+        }
+        
+        projectStatsService.tasksChanged(projectId, before, reviewed);
+        projectRepository.incrementTasksRevision(List.of(projectId));
+        notificationService.tasksReviewed(reviewed, approved);
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    // Update a task status and progress (for members - their assigned tasks)
+    @PutMapping("/{id}/update-progress")
+    public ResponseEntity<?> updateTaskProgress(@PathVariable String id, @RequestBody Task taskRequest,
+                                                @CurrentUser AuthenticatedUser user) {
         // Update progress percentage (0-100)
         int progressPercentage = taskRequest.getProgressPercentage();
         if (progressPercentage < 0 || progressPercentage > 100) {
@@ -140,49 +386,67 @@ public class TaskController {
                     .body(new MessageResponse("Error: Progress percentage must be between 0 and 100."));
         }
         
-        task.setProgressPercentage(progressPercentage);
-        
         // Update status based on progress
+        TaskStatus status;
         if (progressPercentage == 0) {
-            task.setStatus(TaskStatus.PENDING);
+            status = TaskStatus.PENDING;
         } else if (progressPercentage < 100) {
-            task.setStatus(TaskStatus.IN_PROGRESS);
-        } else if (progressPercentage == 100) {
+            status = TaskStatus.IN_PROGRESS;
+        } else {
             // If 100%, move to UNDER_REVIEW for leader approval
-            task.setStatus(TaskStatus.UNDER_REVIEW);
+            status = TaskStatus.UNDER_REVIEW;
         }
         
-        task.setUpdatedAt(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        Task task = taskRepository.updateProgress(id, user.getId(), progressPercentage, status, now);
+        if (task == null) {
+            Task current = taskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Error: Task not found."));
+            
+            // Check if the current user is assigned to this task or is the project leader
+            if (!isAssignee(current, user) && !projectAccessService.isLeader(current.getProjectId(), user.getId())) {
+                return ResponseEntity.badRequest()
+                        .body(new MessageResponse("Error: You are not assigned to this task."));
+            }
+            return transitionConflict(current, TaskStatus.WORKABLE);
+        }
         
-        Task updatedTask = taskRepository.save(task);
+        ProjectStatsService.TaskState before = ProjectStatsService.TaskState.of(task);
+        task.setProgressPercentage(progressPercentage);
+        task.setStatus(status);
+        task.setUpdatedAt(now);
+        task.setVersion(nextVersion(task));
+        projectStatsService.taskChanged(task.getProjectId(), before, task);
+        projectRepository.incrementTasksRevision(List.of(task.getProjectId()));
         
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok(task);
     }
     
     // Submit a task for review (for members)
     @PutMapping("/{id}/submit")
-    public ResponseEntity<?> submitTask(@PathVariable String id) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Task not found."));
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
-        // Check if the current user is assigned to this task
-        if (task.getAssignedTo() == null || !task.getAssignedTo().getId().equals(user.getId())) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: You are not assigned to this task."));
+    public ResponseEntity<?> submitTask(@PathVariable String id, @CurrentUser AuthenticatedUser user) {
+        // Set progress to 100% and change status to UNDER_REVIEW
+        LocalDateTime now = LocalDateTime.now();
+        Task task = taskRepository.submit(id, user.getId(), now);
+        if (task == null) {
+            Task current = taskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Error: Task not found."));
+            
+            // Check if the current user is assigned to this task
+            if (!isAssignee(current, user)) {
+                return ResponseEntity.badRequest()
+                        .body(new MessageResponse("Error: You are not assigned to this task."));
+            }
+            return transitionConflict(current, TaskStatus.WORKABLE);
         }
         
-        // Set progress to 100% and change status to UNDER_REVIEW
+        ProjectStatsService.TaskState before = ProjectStatsService.TaskState.of(task);
         task.setProgressPercentage(100);
         task.setStatus(TaskStatus.UNDER_REVIEW);
-        task.setUpdatedAt(LocalDateTime.now());
-        
-        Task updatedTask = taskRepository.save(task);
+        task.setUpdatedAt(now);
+        projectStatsService.taskChanged(task.getProjectId(), before, task);
+        projectRepository.incrementTasksRevision(List.of(task.getProjectId()));
+        notificationService.taskSubmitted(task);
         
         return ResponseEntity.ok(new MessageResponse("Task submitted for review successfully!"));
     }
@@ -190,35 +454,35 @@ public class TaskController {
     // Approve or reject a task (only for leaders)
     @PutMapping("/{id}/review")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> reviewTask(@PathVariable String id, @RequestParam boolean approved) {
-        Task task = taskRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Error: Task not found."));
-        
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
-        // Check if the current user is the leader of this project
-        if (!task.getProject().getLeader().getId().equals(leader.getId())) {
-            return ResponseEntity.badRequest()
-                    .body(new MessageResponse("Error: You are not the leader of this project."));
+    public ResponseEntity<?> reviewTask(@PathVariable String id, @RequestParam boolean approved,
+                                        @CurrentUser AuthenticatedUser leader) {
+        // Update task status based on approval
+        LocalDateTime now = LocalDateTime.now();
+        Task task = taskRepository.review(id, leader.getId(), approved, now);
+        if (task == null) {
+            Task current = taskRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Error: Task not found."));
+            
+            // Check if the current user is the leader of this project
+            if (!projectAccessService.isLeader(current.getProjectId(), leader.getId())) {
+                return ResponseEntity.badRequest()
+                        .body(new MessageResponse("Error: You are not the leader of this project."));
+            }
+            return transitionConflict(current, Set.of(TaskStatus.UNDER_REVIEW));
         }
         
-        // Update task status based on approval
+        ProjectStatsService.TaskState before = ProjectStatsService.TaskState.of(task);
         if (approved) {
             task.setStatus(TaskStatus.COMPLETED);
-            task.setCompletedDate(LocalDateTime.now());
+            task.setCompletedDate(now);
         } else {
             task.setStatus(TaskStatus.REJECTED);
-            // Reset progress to 75% if rejected
             task.setProgressPercentage(75);
         }
-        
-        task.setUpdatedAt(LocalDateTime.now());
-        
-        Task updatedTask = taskRepository.save(task);
+        task.setUpdatedAt(now);
+        projectStatsService.taskChanged(task.getProjectId(), before, task);
+        projectRepository.incrementTasksRevision(List.of(task.getProjectId()));
+        notificationService.taskReviewed(task, approved);
         
         String message = approved ? "Task approved successfully!" : "Task rejected. Sent back for improvements.";
         
@@ -228,41 +492,94 @@ public class TaskController {
     // Reassign a task to another member (only for leaders)
     @PutMapping("/{id}/reassign/{userId}")
     @PreAuthorize("hasRole('ROLE_LEADER')")
-    public ResponseEntity<?> reassignTask(@PathVariable String id, @PathVariable String userId) {
+    public ResponseEntity<?> reassignTask(@PathVariable String id, @PathVariable String userId,
+                                          @CurrentUser AuthenticatedUser leader) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Error: Task not found."));
         
         User assignee = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Error: User not found."));
         
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
-        User leader = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Error: User not found."));
-        
         // Check if the current user is the leader of this project
-        if (!task.getProject().getLeader().getId().equals(leader.getId())) {
+        if (!projectAccessService.isLeader(task.getProjectId(), leader.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: You are not the leader of this project."));
         }
         
         // Check if new assignee is a member of the project
-        if (!task.getProject().getMembers().contains(assignee)) {
+        if (!projectAccessService.isMember(task.getProjectId(), assignee.getId())) {
             return ResponseEntity.badRequest()
                     .body(new MessageResponse("Error: Assigned user is not a member of this project."));
         }
         
-        task.setAssignedTo(assignee);
-        task.setUpdatedAt(LocalDateTime.now());
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Completed tasks cannot be reassigned."));
+        }
         
         // If task was rejected, change status back to IN_PROGRESS
-        if (task.getStatus() == TaskStatus.REJECTED) {
-            task.setStatus(TaskStatus.IN_PROGRESS);
+        TaskStatus status = task.getStatus() == TaskStatus.REJECTED ? TaskStatus.IN_PROGRESS : task.getStatus();
+        
+        Task previous = taskRepository.reassign(id, task.getVersion(), UserSummary.of(assignee), status,
+                LocalDateTime.now());
+        if (previous == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Task was changed by someone else. Please reload and try again."));
         }
         
-        Task updatedTask = taskRepository.save(task);
+        ProjectStatsService.TaskState before = ProjectStatsService.TaskState.of(previous);
+        previous.setAssignedToId(assignee.getId());
+        previous.setAssignedTo(UserSummary.of(assignee));
+        previous.setStatus(status);
+        projectStatsService.taskChanged(previous.getProjectId(), before, previous);
+        projectRepository.incrementTasksRevision(List.of(previous.getProjectId()));
+        notificationService.taskAssigned(previous);
         
         return ResponseEntity.ok(new MessageResponse("Task reassigned successfully!"));
     }
+    
+    // Streaming handlers must declare their body type, so errors are written as a stream as well
+    private ResponseEntity<StreamingResponseBody> streamedMessage(MessageResponse message) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, message));
+    }
+    
+    private static Task newTask(Task taskRequest, Project project, User assignee, LocalDateTime now) {
+        Task task = new Task();
+        task.setTitle(taskRequest.getTitle());
+        task.setDescription(taskRequest.getDescription());
+        task.setStatus(TaskStatus.PENDING);
+        task.setStartDate(taskRequest.getStartDate());
+        task.setDueDate(taskRequest.getDueDate());
+        task.setProjectId(project.getId());
+        task.setProject(ProjectSummary.of(project));
+        task.setAssignedToId(assignee != null ? assignee.getId() : null);
+        task.setAssignedTo(UserSummary.of(assignee));
+        task.setProgressPercentage(0);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        return task;
+    }
+    
+    private static String assigneeIdOf(Task taskRequest) {
+        return taskRequest.getAssignedTo() != null ? taskRequest.getAssignedTo().getId() : null;
+    }
+    
+    private static boolean isAssignee(Task task, AuthenticatedUser user) {
+        return task.getAssignedToId() != null && task.getAssignedToId().equals(user.getId());
+    }
+    
+    private static Long nextVersion(Task task) {
+        return task.getVersion() != null ? task.getVersion() + 1 : 1L;
+    }
+    
+    // A transition matched nothing although the caller may perform it: either the task is not in
+    // a status the transition starts from, or it changed between the update and this read
+    private static ResponseEntity<?> transitionConflict(Task current, Set<TaskStatus> allowedFrom) {
+        String message = allowedFrom.contains(current.getStatus())
+                ? "Error: Task was changed by someone else. Please reload and try again."
+                : "Error: This action is not allowed while the task is " + current.getStatus() + ".";
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(message));
+    }
 }
\ No newline at end of file
@@ -1,19 +1,20 @@
 package com.management.project.controllers;
 
 import com.management.project.models.User;
-import com.management.project.models.Project;
 import com.management.project.payload.response.MessageResponse;
 import com.management.project.payload.response.UserInfoResponse;
 import com.management.project.repositories.UserRepository;
-import com.management.project.repositories.ProjectRepository;
+import com.management.project.security.AuthenticatedUser;
+import com.management.project.security.CurrentUser;
+import com.management.project.security.ProjectAccessService;
+import com.management.project.services.UserDirectory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,7 +25,10 @@ public class UserController {
     private UserRepository userRepository;
     
     @Autowired
-    private ProjectRepository projectRepository;
+    private ProjectAccessService projectAccessService;
+    
+    @Autowired
+    private UserDirectory userDirectory;
     
     // Get all users (for member selection in projects and task assignment)
     @GetMapping
@@ -47,15 +51,31 @@ public class UserController {
         }
     }
     
+    // Typeahead search by username, full name or email prefix (for member selection), served from
+    // the in-memory user directory
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public ResponseEntity<?> searchUsers(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+        if (q.isBlank()) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: Search text must not be empty."));
+        }
+        
+        int maxResults = limit != null ? limit : UserDirectory.DEFAULT_LIMIT;
+        if (maxResults < 1) {
+            return ResponseEntity.badRequest()
+                    .body(new MessageResponse("Error: Limit must be positive."));
+        }
+        
+        return ResponseEntity.ok(userDirectory.search(q, Math.min(maxResults, UserDirectory.MAX_LIMIT)));
+    }
+    
     // Get user profile info
     @GetMapping("/profile")
-    public ResponseEntity<?> getUserProfile() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        
+    public ResponseEntity<?> getUserProfile(@CurrentUser AuthenticatedUser currentUser) {
         try {
-            User user = userRepository.findByUsername(username)
-                    .orElseThrow(() -> new RuntimeException("Error: User not found."));
+            // The full name is not part of the principal, so the user is loaded here
+            User user = currentUser.getUser();
             
             UserInfoResponse userInfo = new UserInfoResponse(
                     user.getId(),
@@ -76,12 +96,13 @@ public class UserController {
     @PreAuthorize("hasRole('ROLE_LEADER')")
     public ResponseEntity<?> getUsersForProject(@PathVariable String projectId) {
         try {
-            // Find the project first
-            Project project = projectRepository.findById(projectId)
+            // Member ids come from the cached project access entry
+            Set<String> memberIds = projectAccessService.find(projectId)
+                    .map(ProjectAccessService.ProjectAccess::memberIds)
                     .orElseThrow(() -> new RuntimeException("Error: Project not found."));
             
-            // Get the member list from the project
-            List<UserInfoResponse> users = project.getMembers().stream()
+            // Load the members in one $in query
+            List<UserInfoResponse> users = userRepository.findAllById(memberIds).stream()
                     .map(user -> new UserInfoResponse(
                             user.getId(),
                             user.getUsername(),
@@ -0,0 +1,39 @@
+package com.management.project.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+@Document(collection = "notifications")
+@CompoundIndexes({
+        // Ids grow over time, so a stream resumes with the notifications after the last id it saw
+        @CompoundIndex(name = "user_id", def = "{'userId': 1, '_id': 1}"),
+        // The full inbox, newest first
+        @CompoundIndex(name = "user_createdAt", def = "{'userId': 1, 'createdAt': 1, '_id': 1}"),
+        // Unread-only inbox pages and unread counts
+        @CompoundIndex(name = "user_read_createdAt", def = "{'userId': 1, 'read': 1, 'createdAt': 1, '_id': 1}")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Notification {
+    @Id
+    private String id;
+    private String userId;
+    private NotificationType type;
+    private String message;
+    // Ids and names the client needs to link the notification, e.g. taskId and taskTitle
+    private Map<String, Object> metadata = new HashMap<>();
+    private boolean read = false;
+    // Notifications are removed by MongoDB once they are 90 days old
+    @Indexed(name = "expire_createdAt", expireAfter = "90d")
+    private LocalDateTime createdAt;
+}
\ No newline at end of file
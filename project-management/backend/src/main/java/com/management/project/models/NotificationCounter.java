@@ -0,0 +1,25 @@
+package com.management.project.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Unread notification count of one user, changed with $inc as notifications are added and read.
+// Every change also increments the version, so a recount can tell whether it raced with one.
+@Document(collection = "notification_counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationCounter {
+    // Same id as the user
+    @Id
+    private String userId;
+    private long unread;
+    // False until the count has been set from the user's notifications; until then unread only
+    // holds the changes made since the document was created
+    private boolean counted;
+    // Null on counters written before versioning, which matches the missing field in queries
+    private Long version;
+}
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.management.project.models;
+
+public enum NotificationType {
+    TASK_ASSIGNED,
+    TASK_SUBMITTED,
+    TASK_COMPLETED,
+    TASK_REJECTED,
+    ADDED_TO_PROJECT,
+    REMOVED_FROM_PROJECT
+}
\ No newline at end of file
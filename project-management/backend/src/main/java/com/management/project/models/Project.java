@@ -1,8 +1,10 @@
 package com.management.project.models;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -11,6 +13,12 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Document(collection = "projects")
+@CompoundIndexes({
+        @CompoundIndex(name = "leader_createdAt", def = "{'leaderId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "leader_updatedAt", def = "{'leaderId': 1, 'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "member_createdAt", def = "{'memberIds': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "member_updatedAt", def = "{'memberIds': 1, 'updatedAt': 1, '_id': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,8 +31,14 @@ public class Project {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private boolean isProblemStatementApproved = false;
-    @DBRef
-    private User leader;
-    @DBRef
-    private Set<User> members = new HashSet<>();
+    private String leaderId;
+    private UserSummary leader;
+    private Set<String> memberIds = new HashSet<>();
+    private Set<UserSummary> members = new HashSet<>();
+    // Change counters behind the ETags of project and task reads: every write to the project
+    // increments revision, and every write to one of its tasks increments tasksRevision
+    @JsonIgnore
+    private long revision;
+    @JsonIgnore
+    private long tasksRevision;
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.management.project.models;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+// Task rollup for one project, kept current with $inc updates and rebuilt by the repair job
+@Document(collection = "project_stats")
+@Data
+@NoArgsConstructor
+public class ProjectStats {
+    // Same id as the project
+    @Id
+    private String projectId;
+    private long total;
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+    private long progressSum;
+    // Open (not completed) tasks per assignee id
+    private Map<String, Long> memberLoad = new HashMap<>();
+    private LocalDateTime rebuiltAt;
+}
\ No newline at end of file
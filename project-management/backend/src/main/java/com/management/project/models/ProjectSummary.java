@@ -0,0 +1,22 @@
+package com.management.project.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Denormalized copy of the project fields that task views need, embedded in tasks
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectSummary {
+    private String id;
+    private String name;
+    private UserSummary leader;
+
+    public static ProjectSummary of(Project project) {
+        if (project == null) {
+            return null;
+        }
+        return new ProjectSummary(project.getId(), project.getName(), project.getLeader());
+    }
+}
\ No newline at end of file
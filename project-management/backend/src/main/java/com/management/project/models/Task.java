@@ -1,14 +1,24 @@
 package com.management.project.models;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.data.mongodb.core.mapping.DBRef;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Document(collection = "tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "project_createdAt", def = "{'projectId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "project_updatedAt", def = "{'projectId': 1, 'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignee_createdAt", def = "{'assignedToId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignee_updatedAt", def = "{'assignedToId': 1, 'updatedAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "project_status", def = "{'projectId': 1, 'status': 1}"),
+        @CompoundIndex(name = "assignee_status", def = "{'assignedToId': 1, 'status': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,9 +33,12 @@ public class Task {
     private LocalDateTime completedDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
-    @DBRef
-    private Project project;
-    @DBRef
-    private User assignedTo;
+    private String projectId;
+    private ProjectSummary project;
+    private String assignedToId;
+    private UserSummary assignedTo;
     private int progressPercentage = 0;
+    // Incremented by every write; transitions that read the task first update it only if unchanged
+    @Version
+    private Long version;
 }
\ No newline at end of file
@@ -1,9 +1,14 @@
 package com.management.project.models;
 
+import java.util.Set;
+
 public enum TaskStatus {
     PENDING,
     IN_PROGRESS,
     UNDER_REVIEW,
     COMPLETED,
-    REJECTED
+    REJECTED;
+
+    // Statuses in which the assignee can still change progress or submit the task
+    public static final Set<TaskStatus> WORKABLE = Set.of(PENDING, IN_PROGRESS, REJECTED);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.management.project.models;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.DBRef;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.AllArgsConstructor;
@@ -16,7 +17,9 @@ import java.util.Set;
 public class User {
     @Id
     private String id;
+    @Indexed
     private String username;
+    @Indexed
     private String email;
     private String password;
     private String fullName;
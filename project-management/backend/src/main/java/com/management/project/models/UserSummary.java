@@ -0,0 +1,22 @@
+package com.management.project.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Denormalized copy of the user fields that list views need, embedded in tasks and projects
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSummary {
+    private String id;
+    private String username;
+    private String fullName;
+
+    public static UserSummary of(User user) {
+        if (user == null) {
+            return null;
+        }
+        return new UserSummary(user.getId(), user.getUsername(), user.getFullName());
+    }
+}
\ No newline at end of file
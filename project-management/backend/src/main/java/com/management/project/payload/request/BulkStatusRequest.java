@@ -0,0 +1,22 @@
+package com.management.project.payload.request;
+
+import com.management.project.models.TaskStatus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+// Moves the given tasks of one project to the same status
+@Data
+public class BulkStatusRequest {
+    @NotBlank
+    private String projectId;
+
+    @NotNull
+    private TaskStatus status;
+
+    @NotEmpty
+    private List<String> taskIds;
+}
\ No newline at end of file
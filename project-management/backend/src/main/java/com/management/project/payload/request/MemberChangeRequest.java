@@ -0,0 +1,14 @@
+package com.management.project.payload.request;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// User ids to add to and remove from one project in a single update
+@Data
+public class MemberChangeRequest {
+    private List<String> add = new ArrayList<>();
+
+    private List<String> remove = new ArrayList<>();
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.management.project.payload.request;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset pagination parameters for list endpoints. Pages are ordered by a timestamp field and
+ * then by id; the cursor carries the sort value and id of the last item of the previous page.
+ */
+@Getter
+public class PageQuery {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    public static final Set<String> SORT_FIELDS = Set.of("createdAt", "updatedAt");
+
+    private final String sortField;
+    private final boolean ascending;
+    private final int limit;
+    private final LocalDateTime afterValue;
+    private final String afterId;
+    private final Set<String> fields;
+
+    private PageQuery(String sortField, boolean ascending, int limit,
+                      LocalDateTime afterValue, String afterId, Set<String> fields) {
+        this.sortField = sortField;
+        this.ascending = ascending;
+        this.limit = limit;
+        this.afterValue = afterValue;
+        this.afterId = afterId;
+        this.fields = fields;
+    }
+
+    /**
+     * @param cursor opaque cursor returned with the previous page, or null for the first page
+     * @param limit  page size, capped at {@link #MAX_LIMIT}
+     * @param sort   {@code field,direction}, e.g. {@code createdAt,desc}
+     * @param fields comma separated properties to return, or null for whole documents
+     */
+    public static PageQuery of(String cursor, Integer limit, String sort, String fields) {
+        String sortField = "createdAt";
+        boolean ascending = false;
+        if (sort != null && !sort.isBlank()) {
+            String[] parts = sort.split(",");
+            sortField = parts[0].trim();
+            if (parts.length > 1) {
+                String direction = parts[1].trim().toLowerCase();
+                if (!direction.equals("asc") && !direction.equals("desc")) {
+                    throw new IllegalArgumentException("Sort direction must be asc or desc.");
+                }
+                ascending = direction.equals("asc");
+            }
+        }
+        if (!SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Sorting is supported on " + SORT_FIELDS + " only.");
+        }
+
+        int pageSize = limit != null ? limit : DEFAULT_LIMIT;
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Limit must be positive.");
+        }
+        pageSize = Math.min(pageSize, MAX_LIMIT);
+
+        LocalDateTime afterValue = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('|');
+                afterValue = LocalDateTime.parse(decoded.substring(0, separator));
+                afterId = decoded.substring(separator + 1);
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor.");
+            }
+        }
+
+        Set<String> fieldSet = Collections.emptySet();
+        if (fields != null && !fields.isBlank()) {
+            fieldSet = Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(field -> !field.isEmpty())
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+
+        return new PageQuery(sortField, ascending, pageSize, afterValue, afterId, fieldSet);
+    }
+
+    public boolean hasCursor() {
+        return afterId != null;
+    }
+
+    public boolean hasFields() {
+        return !fields.isEmpty();
+    }
+
+    public static String encodeCursor(LocalDateTime sortValue, String id) {
+        String raw = sortValue + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.management.project.payload.request;
+
+import com.management.project.models.Task;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+// Tasks to create in one project; each task is read like the body of POST /api/tasks
+@Data
+public class TaskBatchRequest {
+    @NotBlank
+    private String projectId;
+
+    @NotEmpty
+    private List<Task> tasks;
+}
\ No newline at end of file
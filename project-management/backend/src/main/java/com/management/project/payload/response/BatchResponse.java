@@ -0,0 +1,36 @@
+package com.management.project.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a batch request, with one result per submitted item in request order
+@Data
+public class BatchResponse {
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private int index;
+        private String id;
+        private boolean success;
+        private String message;
+    }
+
+    public void success(int index, String id) {
+        results.add(new ItemResult(index, id, true, null));
+        succeeded++;
+    }
+
+    public void failure(int index, String id, String message) {
+        results.add(new ItemResult(index, id, false, message));
+        failed++;
+    }
+}
\ No newline at end of file
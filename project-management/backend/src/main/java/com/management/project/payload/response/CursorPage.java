@@ -0,0 +1,14 @@
+package com.management.project.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    // Null when this is the last page
+    private String nextCursor;
+}
\ No newline at end of file
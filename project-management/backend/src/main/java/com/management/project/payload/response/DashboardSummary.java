@@ -0,0 +1,15 @@
+package com.management.project.payload.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DashboardSummary {
+    // Projects the user leads or belongs to
+    private long projects;
+    // Tasks assigned to the user
+    private TaskStats assignedTasks;
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.management.project.payload.response;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Outcome of a bulk membership change, one list of user ids per result
+@Data
+public class MemberChangeResponse {
+    private List<String> added = new ArrayList<>();
+    private List<String> alreadyMembers = new ArrayList<>();
+    private List<String> notFound = new ArrayList<>();
+    private List<String> removed = new ArrayList<>();
+    private List<String> notMembers = new ArrayList<>();
+}
\ No newline at end of file
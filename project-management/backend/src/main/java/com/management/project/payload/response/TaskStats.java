@@ -0,0 +1,29 @@
+package com.management.project.payload.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.management.project.models.TaskStatus;
+import lombok.Data;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+public class TaskStats {
+    private long total;
+    // Every status is present, with 0 when no task has it
+    private Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+    // Tasks that are not completed yet
+    private long active;
+    // Tasks past their due date that are not completed
+    private long overdue;
+    private double averageProgress;
+    // Open tasks per assignee id; only filled in for a single project
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Long> memberLoad;
+
+    public TaskStats() {
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.management.project.repositories;
+
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+// An update together with the query that states its precondition
+public record ConditionalUpdate(Query query, Update update) {
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.management.project.repositories;
+
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import org.bson.types.ObjectId;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+// Shared keyset pagination for the custom repository fragments and the reactive variant
+public final class KeysetPager {
+    private KeysetPager() {
+    }
+
+    static <T> CursorPage<T> find(MongoTemplate mongoTemplate, Criteria filter, PageQuery page, Class<T> type) {
+        Query query = query(mongoTemplate.getConverter(), filter, page, type);
+        return page(mongoTemplate.find(query, type), page);
+    }
+
+    // Reads one item more than the page size, so page() can tell whether another page follows
+    public static Query query(MongoConverter converter, Criteria filter, PageQuery page, Class<?> type) {
+        MongoPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+        for (String field : page.getFields()) {
+            if (entity.getPersistentProperty(field) == null) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        }
+
+        String sortField = page.getSortField();
+        if (entity.getPersistentProperty(sortField) == null) {
+            throw new IllegalArgumentException("Sorting on " + sortField + " is not supported here.");
+        }
+        Criteria criteria = filter;
+        if (page.hasCursor()) {
+            // Range operators on _id are passed through unconverted, so match the stored ObjectId type
+            Object afterId = ObjectId.isValid(page.getAfterId()) ? new ObjectId(page.getAfterId()) : page.getAfterId();
+            Criteria after = page.isAscending()
+                    ? new Criteria().orOperator(
+                            where(sortField).gt(page.getAfterValue()),
+                            new Criteria().andOperator(where(sortField).is(page.getAfterValue()),
+                                    where("id").gt(afterId)))
+                    : new Criteria().orOperator(
+                            where(sortField).lt(page.getAfterValue()),
+                            new Criteria().andOperator(where(sortField).is(page.getAfterValue()),
+                                    where("id").lt(afterId)));
+            criteria = new Criteria().andOperator(filter, after);
+        }
+
+        Sort.Direction direction = page.isAscending() ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Query query = new Query(criteria)
+                .with(Sort.by(direction, sortField, "id"))
+                .limit(page.getLimit() + 1);
+        if (page.hasFields()) {
+            query.fields().include(page.getFields().toArray(new String[0])).include(sortField);
+        }
+        return query;
+    }
+
+    public static <T> CursorPage<T> page(List<T> items, PageQuery page) {
+        String nextCursor = null;
+        if (items.size() > page.getLimit()) {
+            items = new ArrayList<>(items.subList(0, page.getLimit()));
+            BeanWrapper last = new BeanWrapperImpl(items.get(items.size() - 1));
+            nextCursor = PageQuery.encodeCursor((LocalDateTime) last.getPropertyValue(page.getSortField()),
+                    (String) last.getPropertyValue("id"));
+        }
+
+        return new CursorPage<>(items, nextCursor);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.management.project.repositories;
+
+import com.management.project.models.Notification;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NotificationRepository extends MongoRepository<Notification, String>, NotificationRepositoryCustom {
+    // Range queries on _id need the ObjectId itself; a hex string would be compared as a string
+    List<Notification> findTop100ByUserIdAndIdGreaterThanOrderByIdAsc(String userId, ObjectId id);
+}
\ No newline at end of file
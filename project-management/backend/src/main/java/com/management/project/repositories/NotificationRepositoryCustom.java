@@ -0,0 +1,14 @@
+package com.management.project.repositories;
+
+import com.management.project.models.Notification;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+
+public interface NotificationRepositoryCustom {
+    CursorPage<Notification> findPageByUserId(String userId, boolean unreadOnly, PageQuery page);
+    long countUnreadByUserId(String userId);
+
+    // Return how many notifications went from unread to read
+    long markRead(String notificationId, String userId);
+    long markAllRead(String userId);
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.management.project.repositories;
+
+import com.management.project.models.Notification;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public CursorPage<Notification> findPageByUserId(String userId, boolean unreadOnly, PageQuery page) {
+        Criteria filter = where("userId").is(userId);
+        if (unreadOnly) {
+            filter = filter.and("read").is(false);
+        }
+        return KeysetPager.find(mongoTemplate, filter, page, Notification.class);
+    }
+
+    @Override
+    public long countUnreadByUserId(String userId) {
+        return mongoTemplate.count(query(where("userId").is(userId).and("read").is(false)), Notification.class);
+    }
+
+    // Matching on read=false makes the returned count exact even when two requests race
+    @Override
+    public long markRead(String notificationId, String userId) {
+        return mongoTemplate.updateFirst(
+                query(where("id").is(notificationId).and("userId").is(userId).and("read").is(false)),
+                Update.update("read", true), Notification.class).getModifiedCount();
+    }
+
+    @Override
+    public long markAllRead(String userId) {
+        return mongoTemplate.updateMulti(
+                query(where("userId").is(userId).and("read").is(false)),
+                Update.update("read", true), Notification.class).getModifiedCount();
+    }
+}
\ No newline at end of file
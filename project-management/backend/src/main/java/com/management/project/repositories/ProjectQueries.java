@@ -0,0 +1,98 @@
+package com.management.project.repositories;
+
+import com.management.project.models.UserSummary;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Project queries shared by {@link ProjectRepositoryCustomImpl} and the reactive variant of
+ * the API.
+ */
+public final class ProjectQueries {
+    private ProjectQueries() {
+    }
+
+    // Projects the user leads or belongs to, in one $or query; each branch has its own index
+    // and MongoDB returns a project matching both branches only once
+    public static Criteria leaderOrMember(String userId) {
+        return new Criteria().orOperator(
+                where("leaderId").is(userId),
+                where("memberIds").is(userId));
+    }
+
+    // The $nin guard keeps memberIds and the member summaries in step: either every user is
+    // added to both arrays, or the update matches nothing
+    public static ConditionalUpdate addMembers(String projectId, String leaderId, Collection<UserSummary> members,
+                                               LocalDateTime updatedAt) {
+        List<String> userIds = members.stream().map(UserSummary::getId).toList();
+        Criteria filter = where("id").is(projectId)
+                .and("leaderId").is(leaderId)
+                .and("memberIds").nin(userIds);
+        Update update = new Update()
+                .addToSet("memberIds").each(userIds.toArray())
+                .set("updatedAt", updatedAt)
+                .inc("revision", 1);
+        update.addToSet("members").each(members.toArray());
+        return new ConditionalUpdate(query(filter), update);
+    }
+
+    public static ConditionalUpdate removeMember(String projectId, String leaderId, String userId,
+                                                 LocalDateTime updatedAt) {
+        Criteria filter = where("id").is(projectId)
+                .and("leaderId").is(leaderId)
+                .and("memberIds").is(userId);
+        // Member summaries store their id as _id, an ObjectId like the user's own id
+        Object storedId = ObjectId.isValid(userId) ? new ObjectId(userId) : userId;
+        Update update = new Update()
+                .pull("memberIds", userId)
+                .pull("members", new Document("_id", storedId))
+                .set("updatedAt", updatedAt)
+                .inc("revision", 1);
+        return new ConditionalUpdate(query(filter), update);
+    }
+
+    // Additions and removals in one write. MongoDB refuses $addToSet and $pull on the same array
+    // in one update, so both arrays are replaced with the result computed from the project as it
+    // was read; the revision guard makes the update match nothing if anything changed since.
+    public static ConditionalUpdate changeMembers(String projectId, String leaderId, long revision,
+                                                  Collection<String> memberIds, Collection<UserSummary> members,
+                                                  LocalDateTime updatedAt) {
+        Criteria filter = where("id").is(projectId)
+                .and("leaderId").is(leaderId)
+                .and("revision").is(revision);
+        Update update = new Update()
+                .set("memberIds", memberIds)
+                .set("members", members)
+                .set("updatedAt", updatedAt)
+                .inc("revision", 1);
+        return new ConditionalUpdate(query(filter), update);
+    }
+
+    // Project fields are changed with $set rather than a save, which would write back the change
+    // counters as they were read and lose increments made in between
+    public static Update updateDetails(String name, String description, String problemStatement,
+                                       LocalDateTime updatedAt) {
+        return new Update()
+                .set("name", name)
+                .set("description", description)
+                .set("problemStatement", problemStatement)
+                .set("updatedAt", updatedAt)
+                .inc("revision", 1);
+    }
+
+    public static Update approveProblemStatement(LocalDateTime updatedAt) {
+        return new Update()
+                .set("isProblemStatementApproved", true)
+                .set("updatedAt", updatedAt)
+                .inc("revision", 1);
+    }
+}
\ No newline at end of file
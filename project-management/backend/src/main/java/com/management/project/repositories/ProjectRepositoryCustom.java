@@ -0,0 +1,36 @@
+package com.management.project.repositories;
+
+import com.management.project.models.Project;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ProjectRepositoryCustom {
+    CursorPage<Project> findPageForUser(String userId, PageQuery page);
+    long countForUser(String userId);
+
+    // Atomic membership changes on the project led by leaderId. They return false when no
+    // project matched: it is missing, led by someone else, or membership changed concurrently.
+    boolean addMembers(String projectId, String leaderId, Collection<UserSummary> members, LocalDateTime updatedAt);
+    boolean removeMember(String projectId, String leaderId, String userId, LocalDateTime updatedAt);
+    boolean changeMembers(String projectId, String leaderId, long revision, Collection<String> memberIds,
+                          Collection<UserSummary> members, LocalDateTime updatedAt);
+
+    // Field updates that also bump the revision; they return the updated project, or null when it is missing
+    Project updateDetails(String projectId, String name, String description, String problemStatement,
+                          LocalDateTime updatedAt);
+    Project approveProblemStatement(String projectId, LocalDateTime updatedAt);
+
+    // Change counters for conditional reads, loaded without the rest of the document; the
+    // single-project lookups return null when the project does not exist
+    Long findRevision(String projectId);
+    Long findTasksRevision(String projectId);
+    // Ids and revisions of the projects on one page of findPageForUser, plus the first project of
+    // the next page
+    List<Project> findPageRevisionsForUser(String userId, PageQuery page);
+    void incrementTasksRevision(Collection<String> projectIds);
+}
\ No newline at end of file
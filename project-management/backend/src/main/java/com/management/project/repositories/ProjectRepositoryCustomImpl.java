@@ -0,0 +1,107 @@
+package com.management.project.repositories;
+
+import com.management.project.models.Project;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ProjectRepositoryCustomImpl implements ProjectRepositoryCustom {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public CursorPage<Project> findPageForUser(String userId, PageQuery page) {
+        return KeysetPager.find(mongoTemplate, ProjectQueries.leaderOrMember(userId), page, Project.class);
+    }
+
+    @Override
+    public long countForUser(String userId) {
+        return mongoTemplate.count(query(ProjectQueries.leaderOrMember(userId)), Project.class);
+    }
+
+    @Override
+    public boolean addMembers(String projectId, String leaderId, Collection<UserSummary> members,
+                              LocalDateTime updatedAt) {
+        if (members.isEmpty()) {
+            return true;
+        }
+        return apply(ProjectQueries.addMembers(projectId, leaderId, members, updatedAt));
+    }
+
+    @Override
+    public boolean removeMember(String projectId, String leaderId, String userId, LocalDateTime updatedAt) {
+        return apply(ProjectQueries.removeMember(projectId, leaderId, userId, updatedAt));
+    }
+
+    @Override
+    public boolean changeMembers(String projectId, String leaderId, long revision, Collection<String> memberIds,
+                                 Collection<UserSummary> members, LocalDateTime updatedAt) {
+        return apply(ProjectQueries.changeMembers(projectId, leaderId, revision, memberIds, members, updatedAt));
+    }
+
+    @Override
+    public Project updateDetails(String projectId, String name, String description, String problemStatement,
+                                 LocalDateTime updatedAt) {
+        return modify(projectId, ProjectQueries.updateDetails(name, description, problemStatement, updatedAt));
+    }
+
+    @Override
+    public Project approveProblemStatement(String projectId, LocalDateTime updatedAt) {
+        return modify(projectId, ProjectQueries.approveProblemStatement(updatedAt));
+    }
+
+    private Project modify(String projectId, Update update) {
+        return mongoTemplate.findAndModify(query(where("id").is(projectId)), update,
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+    }
+
+    @Override
+    public Long findRevision(String projectId) {
+        return findCounter(projectId, "revision", Project::getRevision);
+    }
+
+    @Override
+    public Long findTasksRevision(String projectId) {
+        return findCounter(projectId, "tasksRevision", Project::getTasksRevision);
+    }
+
+    private Long findCounter(String projectId, String field, ToLongFunction<Project> counter) {
+        Query byId = query(where("id").is(projectId));
+        byId.fields().include(field);
+        Project project = mongoTemplate.findOne(byId, Project.class);
+        return project != null ? counter.applyAsLong(project) : null;
+    }
+
+    @Override
+    public List<Project> findPageRevisionsForUser(String userId, PageQuery page) {
+        Query projects = KeysetPager.query(mongoTemplate.getConverter(), ProjectQueries.leaderOrMember(userId),
+                page, Project.class);
+        projects.fields().include("revision");
+        return mongoTemplate.find(projects, Project.class);
+    }
+
+    @Override
+    public void incrementTasksRevision(Collection<String> projectIds) {
+        if (!projectIds.isEmpty()) {
+            mongoTemplate.updateMulti(query(where("id").in(projectIds)), new Update().inc("tasksRevision", 1),
+                    Project.class);
+        }
+    }
+
+    private boolean apply(ConditionalUpdate change) {
+        return mongoTemplate.updateFirst(change.query(), change.update(), Project.class).getMatchedCount() > 0;
+    }
+}
\ No newline at end of file
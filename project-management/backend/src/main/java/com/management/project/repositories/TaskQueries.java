@@ -0,0 +1,147 @@
+package com.management.project.repositories;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.UserSummary;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Task queries shared by {@link TaskRepositoryCustomImpl} and the reactive variant of the API,
+ * so both apply the same transition preconditions and build the same statistics.
+ */
+public final class TaskQueries {
+    private TaskQueries() {
+    }
+
+    // Progress can be changed by the assignee or the project leader while the task is workable
+    public static ConditionalUpdate updateProgress(String taskId, String userId, int progressPercentage,
+                                                   TaskStatus status, LocalDateTime updatedAt) {
+        Criteria precondition = where("id").is(taskId)
+                .and("status").in(TaskStatus.WORKABLE)
+                .orOperator(where("assignedToId").is(userId), where("project.leader.id").is(userId));
+        Update update = new Update()
+                .set("progressPercentage", progressPercentage)
+                .set("status", status)
+                .set("updatedAt", updatedAt);
+        return transition(precondition, update);
+    }
+
+    public static ConditionalUpdate submit(String taskId, String assigneeId, LocalDateTime updatedAt) {
+        Criteria precondition = where("id").is(taskId)
+                .and("assignedToId").is(assigneeId)
+                .and("status").in(TaskStatus.WORKABLE);
+        Update update = new Update()
+                .set("progressPercentage", 100)
+                .set("status", TaskStatus.UNDER_REVIEW)
+                .set("updatedAt", updatedAt);
+        return transition(precondition, update);
+    }
+
+    // Rejected tasks go back to 75% so the assignee can improve and resubmit them
+    public static ConditionalUpdate review(String taskId, String leaderId, boolean approved, LocalDateTime updatedAt) {
+        Criteria precondition = where("id").is(taskId)
+                .and("project.leader.id").is(leaderId)
+                .and("status").is(TaskStatus.UNDER_REVIEW);
+        Update update = new Update().set("updatedAt", updatedAt);
+        if (approved) {
+            update.set("status", TaskStatus.COMPLETED).set("completedDate", updatedAt);
+        } else {
+            update.set("status", TaskStatus.REJECTED).set("progressPercentage", 75);
+        }
+        return transition(precondition, update);
+    }
+
+    // Bulk review: the tasks were read to validate them, so the version guards against any change since
+    public static ConditionalUpdate review(Task task, String leaderId, boolean approved, LocalDateTime updatedAt) {
+        ConditionalUpdate change = review(task.getId(), leaderId, approved, updatedAt);
+        change.query().addCriteria(where("version").is(task.getVersion()));
+        return change;
+    }
+
+    // The caller has already checked the task it read, so the version guards against any change since
+    public static ConditionalUpdate reassign(String taskId, Long version, UserSummary assignee, TaskStatus status,
+                                             LocalDateTime updatedAt) {
+        Criteria precondition = where("id").is(taskId)
+                .and("version").is(version)
+                .and("status").ne(TaskStatus.COMPLETED);
+        Update update = new Update()
+                .set("assignedToId", assignee.getId())
+                .set("assignedTo", assignee)
+                .set("status", status)
+                .set("updatedAt", updatedAt);
+        return transition(precondition, update);
+    }
+
+    // $set only the changed fields and bump the version
+    private static ConditionalUpdate transition(Criteria precondition, Update update) {
+        update.inc("version", 1);
+        return new ConditionalUpdate(query(precondition), update);
+    }
+
+    // Transitions are run with findAndModify and return the task as it was before the update
+    public static FindAndModifyOptions returnPrevious() {
+        return FindAndModifyOptions.options().returnNew(false);
+    }
+
+    public static Criteria open() {
+        return where("status").ne(TaskStatus.COMPLETED);
+    }
+
+    public static Criteria overdue() {
+        return where("dueDate").lt(LocalDateTime.now()).and("status").ne(TaskStatus.COMPLETED);
+    }
+
+    // Full rescan of one project's tasks, used to build or repair its ProjectStats document
+    public static TypedAggregation<Task> projectStats(String projectId) {
+        return newAggregation(Task.class,
+                match(where("projectId").is(projectId)),
+                facet(group().count().as("total").sum("progressPercentage").as("progressSum")).as("totals")
+                        .and(group("status").count().as("count")).as("byStatus")
+                        .and(match(open().and("assignedToId").ne(null)),
+                                group("assignedToId").count().as("count")).as("memberLoad"));
+    }
+
+    public static ProjectStats readProjectStats(String projectId, Document result) {
+        ProjectStats stats = new ProjectStats();
+        stats.setProjectId(projectId);
+        for (TaskStatus status : TaskStatus.values()) {
+            stats.getByStatus().put(status, 0L);
+        }
+        if (result == null) {
+            return stats;
+        }
+        for (Document totals : result.getList("totals", Document.class, List.of())) {
+            stats.setTotal(longValue(totals.get("total")));
+            stats.setProgressSum(longValue(totals.get("progressSum")));
+        }
+        for (Document status : result.getList("byStatus", Document.class, List.of())) {
+            Object name = status.get("_id");
+            if (name != null) {
+                stats.getByStatus().put(TaskStatus.valueOf(name.toString()), longValue(status.get("count")));
+            }
+        }
+        for (Document load : result.getList("memberLoad", Document.class, List.of())) {
+            stats.getMemberLoad().put(load.get("_id").toString(), longValue(load.get("count")));
+        }
+        return stats;
+    }
+
+    static long longValue(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.management.project.repositories;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.payload.response.TaskStats;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface TaskRepositoryCustom {
+    CursorPage<Task> findPageByProjectId(String projectId, PageQuery page);
+    CursorPage<Task> findPageByAssignedToId(String assignedToId, PageQuery page);
+    TaskStats statsByAssignedToId(String assignedToId);
+    ProjectStats computeProjectStats(String projectId);
+    long countOverdueByProjectId(String projectId);
+
+    // Conditional state transitions. Each one updates the task only while its precondition
+    // holds and returns the task as it was before the update, or null if nothing matched.
+    Task updateProgress(String taskId, String userId, int progressPercentage, TaskStatus status,
+                        LocalDateTime updatedAt);
+    Task submit(String taskId, String assigneeId, LocalDateTime updatedAt);
+    Task review(String taskId, String leaderId, boolean approved, LocalDateTime updatedAt);
+    Task reassign(String taskId, Long version, UserSummary assignee, TaskStatus status, LocalDateTime updatedAt);
+
+    // Batch writes, each sent as one unordered bulk write. insertUnordered returns the error of
+    // every task that was not inserted, by position. review applies the review transition to tasks
+    // as they were read and returns the ids of those it updated; updatedAt must have millisecond
+    // precision, as it is compared with the stored value.
+    Map<Integer, String> insertUnordered(List<Task> tasks);
+    Set<String> review(List<Task> tasks, String leaderId, boolean approved, LocalDateTime updatedAt);
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.management.project.repositories;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.payload.response.TaskStats;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.count;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Override
+    public CursorPage<Task> findPageByProjectId(String projectId, PageQuery page) {
+        return KeysetPager.find(mongoTemplate, where("projectId").is(projectId), page, Task.class);
+    }
+
+    @Override
+    public CursorPage<Task> findPageByAssignedToId(String assignedToId, PageQuery page) {
+        return KeysetPager.find(mongoTemplate, where("assignedToId").is(assignedToId), page, Task.class);
+    }
+
+    @Override
+    public TaskStats statsByAssignedToId(String assignedToId) {
+        return aggregateStats(where("assignedToId").is(assignedToId));
+    }
+
+    @Override
+    public ProjectStats computeProjectStats(String projectId) {
+        Document result = mongoTemplate.aggregate(TaskQueries.projectStats(projectId), Document.class)
+                .getUniqueMappedResult();
+        return TaskQueries.readProjectStats(projectId, result);
+    }
+
+    // Overdue depends on the clock, so it is counted on read rather than kept in ProjectStats
+    @Override
+    public long countOverdueByProjectId(String projectId) {
+        return mongoTemplate.count(query(where("projectId").is(projectId).andOperator(TaskQueries.overdue())),
+                Task.class);
+    }
+
+    @Override
+    public Task updateProgress(String taskId, String userId, int progressPercentage, TaskStatus status,
+                               LocalDateTime updatedAt) {
+        return transition(TaskQueries.updateProgress(taskId, userId, progressPercentage, status, updatedAt));
+    }
+
+    @Override
+    public Task submit(String taskId, String assigneeId, LocalDateTime updatedAt) {
+        return transition(TaskQueries.submit(taskId, assigneeId, updatedAt));
+    }
+
+    @Override
+    public Task review(String taskId, String leaderId, boolean approved, LocalDateTime updatedAt) {
+        return transition(TaskQueries.review(taskId, leaderId, approved, updatedAt));
+    }
+
+    @Override
+    public Task reassign(String taskId, Long version, UserSummary assignee, TaskStatus status,
+                         LocalDateTime updatedAt) {
+        return transition(TaskQueries.reassign(taskId, version, assignee, status, updatedAt));
+    }
+
+    // One findAndModify, returning the task as it was before the update
+    private Task transition(ConditionalUpdate change) {
+        return mongoTemplate.findAndModify(change.query(), change.update(), TaskQueries.returnPrevious(), Task.class);
+    }
+
+    @Override
+    public Map<Integer, String> insertUnordered(List<Task> tasks) {
+        Map<Integer, String> errors = new HashMap<>();
+        if (tasks.isEmpty()) {
+            return errors;
+        }
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class).insert(tasks).execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> errors.put(error.getIndex(), error.getMessage()));
+        }
+        return errors;
+    }
+
+    @Override
+    public Set<String> review(List<Task> tasks, String leaderId, boolean approved, LocalDateTime updatedAt) {
+        if (tasks.isEmpty()) {
+            return Set.of();
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Task.class);
+        for (Task task : tasks) {
+            ConditionalUpdate change = TaskQueries.review(task, leaderId, approved, updatedAt);
+            bulk.updateOne(change.query(), change.update());
+        }
+        int matched = bulk.execute().getMatchedCount();
+
+        Map<String, Long> nextVersions = tasks.stream().collect(Collectors.toMap(Task::getId,
+                task -> task.getVersion() != null ? task.getVersion() + 1 : 1L));
+        if (matched == tasks.size()) {
+            return new HashSet<>(nextVersions.keySet());
+        }
+
+        // Some tasks changed after they were read; the ones updated here carry this timestamp and version
+        Query updated = query(where("id").in(nextVersions.keySet()).and("updatedAt").is(updatedAt));
+        updated.fields().include("version");
+        return mongoTemplate.find(updated, Task.class).stream()
+                .filter(task -> nextVersions.get(task.getId()).equals(task.getVersion()))
+                .map(Task::getId)
+                .collect(Collectors.toSet());
+    }
+
+    // One indexed $match followed by a $facet, so every number comes back in a single document
+    private TaskStats aggregateStats(Criteria filter) {
+        TypedAggregation<Task> aggregation = newAggregation(Task.class,
+                match(filter),
+                facet(group().count().as("total").avg("progressPercentage").as("averageProgress")).as("totals")
+                        .and(group("status").count().as("count")).as("byStatus")
+                        .and(match(TaskQueries.overdue()), count().as("count")).as("overdue"));
+        Document result = mongoTemplate.aggregate(aggregation, Document.class).getUniqueMappedResult();
+
+        TaskStats stats = new TaskStats();
+        if (result == null) {
+            return stats;
+        }
+        for (Document totals : result.getList("totals", Document.class, List.of())) {
+            stats.setTotal(TaskQueries.longValue(totals.get("total")));
+            Object average = totals.get("averageProgress");
+            stats.setAverageProgress(average instanceof Number number ? number.doubleValue() : 0);
+        }
+        for (Document status : result.getList("byStatus", Document.class, List.of())) {
+            Object name = status.get("_id");
+            if (name != null) {
+                stats.getByStatus().put(TaskStatus.valueOf(name.toString()), TaskQueries.longValue(status.get("count")));
+            }
+        }
+        for (Document overdueCount : result.getList("overdue", Document.class, List.of())) {
+            stats.setOverdue(TaskQueries.longValue(overdueCount.get("count")));
+        }
+        stats.setActive(stats.getTotal() - stats.getByStatus().get(TaskStatus.COMPLETED));
+        return stats;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.management.project.security;
+
+import com.management.project.models.User;
+import com.management.project.repositories.UserRepository;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The user a request was authenticated as. The id, username and roles come from the
+ * {@link UserDetailsImpl} the JWT filter already holds, so handlers that only need those never
+ * query the database; the full {@link User} is loaded on the first call to {@link #getUser()}
+ * and kept for the rest of the request.
+ */
+public class AuthenticatedUser {
+    private final String id;
+    private final String username;
+    private final Set<String> roles;
+    private final UserRepository userRepository;
+    private User user;
+
+    AuthenticatedUser(UserDetailsImpl userDetails, UserRepository userRepository) {
+        this.id = userDetails.getId();
+        this.username = userDetails.getUsername();
+        this.roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toUnmodifiableSet());
+        this.userRepository = userRepository;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Set<String> getRoles() {
+        return roles;
+    }
+
+    public boolean hasRole(String role) {
+        return roles.contains(role);
+    }
+
+    public User getUser() {
+        if (user == null) {
+            user = userRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Error: User not found."));
+        }
+        return user;
+    }
+}
\ No newline at end of file
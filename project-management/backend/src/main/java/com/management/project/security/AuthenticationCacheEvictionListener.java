@@ -0,0 +1,42 @@
+package com.management.project.security;
+
+import com.management.project.models.Role;
+import com.management.project.models.User;
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+// Keeps cached principals in line with the users and roles they were built from
+@Component
+public class AuthenticationCacheEvictionListener extends AbstractMongoEventListener<Object> {
+    @Autowired
+    private JwtAuthenticationCache authenticationCache;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof User user) {
+            authenticationCache.evictUser(user.getId());
+        } else if (source instanceof Role) {
+            authenticationCache.evictAll();
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Object> event) {
+        if (User.class.equals(event.getType())) {
+            Object id = event.getDocument() != null ? event.getDocument().get("_id") : null;
+            if (id instanceof ObjectId || id instanceof String) {
+                authenticationCache.evictUser(id.toString());
+            } else {
+                authenticationCache.evictAll();
+            }
+        } else if (Role.class.equals(event.getType())) {
+            authenticationCache.evictAll();
+        }
+    }
+}
\ No newline at end of file
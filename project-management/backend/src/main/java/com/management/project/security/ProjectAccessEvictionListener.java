@@ -0,0 +1,35 @@
+package com.management.project.security;
+
+import com.management.project.models.Project;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+// Drops cached project membership whenever a project document is saved or deleted
+@Component
+public class ProjectAccessEvictionListener extends AbstractMongoEventListener<Object> {
+    @Autowired
+    private ProjectAccessService projectAccessService;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        if (event.getSource() instanceof Project project) {
+            projectAccessService.evict(project.getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<Object> event) {
+        if (Project.class.equals(event.getType())) {
+            Object id = event.getDocument() != null ? event.getDocument().get("_id") : null;
+            if (id instanceof ObjectId || id instanceof String) {
+                projectAccessService.evict(id.toString());
+            } else {
+                projectAccessService.evictAll();
+            }
+        }
+    }
+}
\ No newline at end of file
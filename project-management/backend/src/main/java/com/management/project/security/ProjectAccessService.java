@@ -0,0 +1,132 @@
+package com.management.project.security;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.management.project.models.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Answers "is leader" / "is member" questions for a project from a cached copy of its
+ * {@code leaderId} and {@code memberIds}, so authorization checks compare strings instead of
+ * loading and comparing whole documents. Entries are dropped whenever the project is saved or
+ * deleted, and code that changes membership with an atomic update must call {@link #evict}.
+ */
+@Component
+public class ProjectAccessService {
+    private final LoadingCache<String, ProjectAccess> cache;
+
+    public ProjectAccessService(MongoTemplate mongoTemplate,
+                                @Value("${app.projectAccess.cache.maxSize:10000}") long maxSize,
+                                @Value("${app.projectAccess.cache.ttlSeconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Bounds staleness if a project is changed outside this application
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(new ProjectAccessLoader(mongoTemplate));
+    }
+
+    public boolean exists(String projectId) {
+        return access(projectId) != null;
+    }
+
+    public Optional<ProjectAccess> find(String projectId) {
+        return Optional.ofNullable(access(projectId));
+    }
+
+    public boolean isLeader(String projectId, String userId) {
+        ProjectAccess access = access(projectId);
+        return access != null && access.isLeader(userId);
+    }
+
+    public boolean isMember(String projectId, String userId) {
+        ProjectAccess access = access(projectId);
+        return access != null && access.isMember(userId);
+    }
+
+    public boolean isMemberOrLeader(String projectId, String userId) {
+        ProjectAccess access = access(projectId);
+        return access != null && (access.isMember(userId) || access.isLeader(userId));
+    }
+
+    public void evict(String projectId) {
+        if (projectId != null) {
+            cache.invalidate(projectId);
+        }
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public LoadingCache<String, ProjectAccess> getCache() {
+        return cache;
+    }
+
+    private ProjectAccess access(String projectId) {
+        return projectId != null ? cache.get(projectId) : null;
+    }
+
+    public record ProjectAccess(String leaderId, Set<String> memberIds) {
+        public boolean isLeader(String userId) {
+            return userId != null && Objects.equals(leaderId, userId);
+        }
+
+        public boolean isMember(String userId) {
+            return userId != null && memberIds.contains(userId);
+        }
+
+        // Not Set.copyOf: ObjectIds created together hash to consecutive ints, and its linear probing
+        // turns those into one long cluster that a non-member lookup may have to walk end to end
+        public static ProjectAccess of(Project project) {
+            Set<String> memberIds = project.getMemberIds() != null
+                    ? Collections.unmodifiableSet(new HashSet<>(project.getMemberIds()))
+                    : Set.of();
+            return new ProjectAccess(project.getLeaderId(), memberIds);
+        }
+    }
+
+    // Reads only the id fields; bulk lookups are served by a single $in query
+    private static class ProjectAccessLoader implements CacheLoader<String, ProjectAccess> {
+        private final MongoTemplate mongoTemplate;
+
+        ProjectAccessLoader(MongoTemplate mongoTemplate) {
+            this.mongoTemplate = mongoTemplate;
+        }
+
+        @Override
+        public ProjectAccess load(String projectId) {
+            Project project = mongoTemplate.findOne(idFields(query(where("id").is(projectId))), Project.class);
+            return project != null ? ProjectAccess.of(project) : null;
+        }
+
+        @Override
+        public Map<String, ProjectAccess> loadAll(Set<? extends String> projectIds) {
+            Map<String, ProjectAccess> loaded = new HashMap<>();
+            mongoTemplate.find(idFields(query(where("id").in(projectIds))), Project.class)
+                    .forEach(project -> loaded.put(project.getId(), ProjectAccess.of(project)));
+            return loaded;
+        }
+
+        private static Query idFields(Query query) {
+            query.fields().include("leaderId", "memberIds");
+            return query;
+        }
+    }
+}
\ No newline at end of file
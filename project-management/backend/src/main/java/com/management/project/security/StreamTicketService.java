@@ -0,0 +1,44 @@
+package com.management.project.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * Short-lived, single-use tickets for opening the notification stream. EventSource cannot send
+ * an Authorization header, so an authenticated client first asks for a ticket and puts that in
+ * the stream URL instead of its token. A ticket that ends up in an access log or the browser
+ * history is of no use: it expires after a few seconds and is consumed by the first request
+ * that presents it.
+ */
+@Service
+public class StreamTicketService {
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, String> tickets;
+
+    public StreamTicketService(@Value("${app.notifications.streamTicketTtlSeconds:30}") long ttlSeconds,
+                               @Value("${app.notifications.streamTicketMaxCount:10000}") long maxCount) {
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxCount)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public String issue(String username) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, username);
+        return ticket;
+    }
+
+    // Returns the username the ticket was issued to, or null if it is unknown, expired or already used
+    public String redeem(String ticket) {
+        return tickets.asMap().remove(ticket);
+    }
+}
\ No newline at end of file
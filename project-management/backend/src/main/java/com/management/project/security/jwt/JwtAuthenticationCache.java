@@ -0,0 +1,95 @@
+package com.management.project.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.management.project.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of already verified tokens. Entries are keyed by the SHA-256 hash of the
+ * token and hold the principal that was loaded for it, so repeat requests with the same
+ * token skip signature verification and the user lookup. Each entry expires together with
+ * the token's {@code exp} claim.
+ */
+@Component
+public class JwtAuthenticationCache {
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.maxSize:10000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    public UserDetailsImpl get(String token) {
+        CachedAuthentication cached = cache.getIfPresent(hash(token));
+        if (cached == null || cached.expiresAtMillis() <= System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.userDetails();
+    }
+
+    public void put(String token, UserDetailsImpl userDetails, Date expiration) {
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        cache.put(hash(token), new CachedAuthentication(userDetails, expiration.getTime()));
+    }
+
+    // Drop every token issued to the given user, e.g. after the user document changed
+    public void evictUser(String userId) {
+        cache.asMap().values().removeIf(cached -> cached.userDetails().getId().equals(userId));
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public Cache<String, CachedAuthentication> getCache() {
+        return cache;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record CachedAuthentication(UserDetailsImpl userDetails, long expiresAtMillis) {
+    }
+
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
\ No newline at end of file
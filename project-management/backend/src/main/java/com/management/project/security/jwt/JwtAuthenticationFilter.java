@@ -1,5 +1,7 @@
 package com.management.project.security.jwt;
 
+import com.management.project.security.StreamTicketService;
+import com.management.project.security.UserDetailsImpl;
 import com.management.project.security.UserDetailsServiceImpl;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,7 +12,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -19,6 +20,7 @@ import java.io.IOException;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+    private static final String STREAM_PATH = "/api/notifications/stream";
     
     @Autowired
     private JwtUtils jwtUtils;
@@ -26,21 +28,40 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private JwtAuthenticationCache authenticationCache;
+
+    @Autowired
+    private StreamTicketService streamTicketService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
             String jwt = parseJwt(request);
             
-            // Debug logging
-            logger.info("Request path: {}", request.getRequestURI());
-            logger.info("Authorization header: {}", request.getHeader("Authorization"));
-            logger.info("Parsed JWT: {}", jwt);
+            UserDetailsImpl userDetails = jwt != null ? authenticationCache.get(jwt) : null;
             
-            if (jwt != null && jwtUtils.validateJwtToken(jwt)) {
-                String username = jwtUtils.getUserNameFromJwtToken(jwt);
+            if (userDetails == null && jwt != null) {
+                JwtValidationResult result = jwtUtils.parseJwtToken(jwt);
                 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (result.isValid()) {
+                    userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(result.getUsername());
+                    authenticationCache.put(jwt, userDetails, result.getExpiration());
+                }
+            }
+            
+            // EventSource cannot send headers, so the notification stream is opened with a
+            // single-use ticket obtained from POST /api/notifications/stream-ticket
+            if (userDetails == null && jwt == null && STREAM_PATH.equals(request.getRequestURI())) {
+                String ticket = request.getParameter("ticket");
+                String username = StringUtils.hasText(ticket) ? streamTicketService.redeem(ticket) : null;
+                if (username != null) {
+                    userDetails = (UserDetailsImpl) userDetailsService.loadUserByUsername(username);
+                }
+            }
+            
+            if (userDetails != null) {
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userDetails,
@@ -49,12 +70,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
-                logger.info("Successfully authenticated user: {}", username);
-            } else {
-                logger.warn("No valid JWT token found");
             }
         } catch (Exception e) {
-            logger.error("Cannot set user authentication: {}", e.getMessage());
+            // Requests continue unauthenticated; rejected tokens are counted in jwt.validation.failures
+            logger.debug("Cannot set user authentication: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
@@ -3,8 +3,11 @@ package com.management.project.security.jwt;
 import com.management.project.security.UserDetailsImpl;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Serializer;
 import io.jsonwebtoken.security.Keys;
-import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,7 +16,12 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.security.Key;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
 
 @Component
 public class JwtUtils {
@@ -22,57 +30,127 @@ public class JwtUtils {
     @Value("${jwt.secret}")
     private String jwtSecret;
 
+    @Value("${jwt.keyId:primary}")
+    private String jwtKeyId;
+
+    // Retired keys that are still accepted for verification, as "kid:base64Secret" pairs
+    @Value("${jwt.previousKeys:}")
+    private String jwtPreviousKeys;
+
     @Value("${jwt.expirationMs}")
     private int jwtExpirationMs;
 
+    // Built once at startup; Key and JwtParser instances are immutable and thread-safe
+    private Key signingKey;
+    private Map<String, Key> verificationKeys;
+    private JwtParser jwtParser;
+    private Serializer<Map<String, ?>> jsonSerializer;
+    // Rejected tokens by cause; registered globally so JwtUtils stays usable outside Spring
+    private final Map<JwtValidationResult.Failure, Counter> failureCounters =
+            new EnumMap<>(JwtValidationResult.Failure.class);
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+
+        Map<String, Key> keys = new LinkedHashMap<>();
+        keys.put(jwtKeyId, signingKey);
+        if (StringUtils.hasText(jwtPreviousKeys)) {
+            for (String entry : jwtPreviousKeys.split(",")) {
+                String[] parts = entry.trim().split(":", 2);
+                if (parts.length != 2 || !StringUtils.hasText(parts[0])) {
+                    throw new IllegalStateException("Invalid jwt.previousKeys entry, expected kid:secret");
+                }
+                keys.putIfAbsent(parts[0], Keys.hmacShaKeyFor(Decoders.BASE64.decode(parts[1])));
+            }
+        }
+        verificationKeys = Collections.unmodifiableMap(keys);
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        // JwtBuilder otherwise looks the JSON serializer up through ServiceLoader on every token
+        jsonSerializer = loadJsonSerializer();
+
+        for (JwtValidationResult.Failure failure : JwtValidationResult.Failure.values()) {
+            failureCounters.put(failure, Counter.builder("jwt.validation.failures")
+                    .description("Bearer tokens rejected, by cause")
+                    .tag("cause", failure.name())
+                    .register(Metrics.globalRegistry));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Serializer<Map<String, ?>> loadJsonSerializer() {
+        return ServiceLoader.load(Serializer.class).findFirst().orElse(null);
+    }
+
     public String generateJwtToken(Authentication authentication) {
         UserDetailsImpl userPrincipal = (UserDetailsImpl) authentication.getPrincipal();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder();
+        if (jsonSerializer != null) {
+            builder.serializeToJsonWith(jsonSerializer);
+        }
+
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, jwtKeyId)
                 .setSubject((userPrincipal.getUsername()))
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
-                .signWith(key(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    private Key key() {
-        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+    // Tokens issued before key ids were introduced carry no kid and use the current key
+    private Key resolveKey(String keyId) {
+        if (keyId == null) {
+            return signingKey;
+        }
+        Key key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new io.jsonwebtoken.security.SignatureException("Unknown signing key id: " + keyId);
+        }
+        return key;
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+        return jwtParser.parseClaimsJws(token).getBody().getSubject();
     }
 
-    public boolean validateJwtToken(String authToken) {
+    public JwtValidationResult parseJwtToken(String authToken) {
         try {
-            Jwts.parserBuilder().setSigningKey(key()).build().parseClaimsJws(authToken);
-            return true;
-        } catch (SecurityException e) {
-            logger.error("Invalid JWT signature: {}", e.getMessage());
+            return JwtValidationResult.valid(jwtParser.parseClaimsJws(authToken).getBody());
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            logger.debug("Invalid JWT signature: {}", e.getMessage());
+            return rejected(JwtValidationResult.Failure.INVALID_SIGNATURE);
         } catch (MalformedJwtException e) {
-            logger.error("Invalid JWT token: {}", e.getMessage());
+            logger.debug("Invalid JWT token: {}", e.getMessage());
+            return rejected(JwtValidationResult.Failure.MALFORMED);
         } catch (ExpiredJwtException e) {
-            logger.error("JWT token is expired: {}", e.getMessage());
+            logger.debug("JWT token is expired: {}", e.getMessage());
+            return rejected(JwtValidationResult.Failure.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            logger.error("JWT token is unsupported: {}", e.getMessage());
+            logger.debug("JWT token is unsupported: {}", e.getMessage());
+            return rejected(JwtValidationResult.Failure.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            logger.error("JWT claims string is empty: {}", e.getMessage());
+            logger.debug("JWT claims string is empty: {}", e.getMessage());
+            return rejected(JwtValidationResult.Failure.EMPTY);
         }
+    }
 
-        return false;
+    private JwtValidationResult rejected(JwtValidationResult.Failure failure) {
+        failureCounters.get(failure).increment();
+        return JwtValidationResult.invalid(failure);
     }
 
-    public String parseJwt(HttpServletRequest request) {
-        String headerAuth = request.getHeader("Authorization");
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
-        }
-        return null;
+    public boolean validateJwtToken(String authToken) {
+        return parseJwtToken(authToken).isValid();
     }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.management.project.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Outcome of a single token parse: either the verified claims or the reason the token was
+ * rejected.
+ */
+public final class JwtValidationResult {
+    public enum Failure {
+        INVALID_SIGNATURE,
+        MALFORMED,
+        EXPIRED,
+        UNSUPPORTED,
+        EMPTY
+    }
+
+    private final Claims claims;
+    private final Failure failure;
+
+    private JwtValidationResult(Claims claims, Failure failure) {
+        this.claims = claims;
+        this.failure = failure;
+    }
+
+    public static JwtValidationResult valid(Claims claims) {
+        return new JwtValidationResult(claims, null);
+    }
+
+    public static JwtValidationResult invalid(Failure failure) {
+        return new JwtValidationResult(null, failure);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+
+    public Claims getClaims() {
+        return claims;
+    }
+
+    public Failure getFailure() {
+        return failure;
+    }
+
+    public String getUsername() {
+        return claims != null ? claims.getSubject() : null;
+    }
+
+    public Date getExpiration() {
+        return claims != null ? claims.getExpiration() : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.management.project.services;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.management.project.models.NotificationCounter;
+import com.management.project.repositories.NotificationRepository;
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Unread notification count per user. The count lives in {@code notification_counters} and is
+ * changed with {@code $inc} as notifications are published and read, and recent values are
+ * cached, so the bell badge costs a cache hit or one primary key read instead of a count query.
+ * A user without a counted counter gets it set from a count of their unread notifications. The
+ * count is written only if the counter's version is unchanged since before counting, so a
+ * notification published or read in the meantime is never lost; the count is retried instead.
+ */
+@Service
+public class NotificationCounterService {
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final NotificationRepository notificationRepository;
+    private final LoadingCache<String, Long> cache;
+
+    public NotificationCounterService(MongoTemplate mongoTemplate,
+                                      NotificationRepository notificationRepository,
+                                      @Value("${app.notifications.counterCache.maxSize:10000}") long maxSize,
+                                      @Value("${app.notifications.counterCache.ttlSeconds:60}") long ttlSeconds) {
+        this.mongoTemplate = mongoTemplate;
+        this.notificationRepository = notificationRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                // Other instances change the same counters, so cached values are only trusted briefly
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build(this::load);
+    }
+
+    public long getUnread(String userId) {
+        return cache.get(userId);
+    }
+
+    public void increment(String userId) {
+        add(userId, 1);
+    }
+
+    public void decrement(String userId, long count) {
+        if (count > 0) {
+            add(userId, -count);
+        }
+    }
+
+    // Sets the counter from a fresh count, correcting any drift such as unread notifications that expired
+    public long recount(String userId) {
+        long unread = reconcile(userId);
+        cache.put(userId, unread);
+        return unread;
+    }
+
+    public LoadingCache<String, Long> getCache() {
+        return cache;
+    }
+
+    // Upserts, so changes made while a counter is being built are kept and invalidate that count
+    private void add(String userId, long delta) {
+        NotificationCounter counter = mongoTemplate.findAndModify(
+                query(where("userId").is(userId)),
+                new Update().inc("unread", delta).inc("version", 1),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                NotificationCounter.class);
+        if (counter != null && counter.isCounted()) {
+            cache.put(userId, Math.max(counter.getUnread(), 0));
+        } else {
+            cache.invalidate(userId);
+        }
+    }
+
+    private Long load(String userId) {
+        NotificationCounter counter = mongoTemplate.findById(userId, NotificationCounter.class);
+        if (counter != null && counter.isCounted()) {
+            return Math.max(counter.getUnread(), 0);
+        }
+        return reconcile(userId);
+    }
+
+    // Creates the counter if needed, then stores a count taken after reading its version
+    private long reconcile(String userId) {
+        long unread = 0;
+        for (int attempt = 0; attempt < MAX_RECONCILE_ATTEMPTS; attempt++) {
+            NotificationCounter counter = mongoTemplate.findAndModify(
+                    query(where("userId").is(userId)),
+                    new Update().setOnInsert("unread", 0L).setOnInsert("version", 0L),
+                    FindAndModifyOptions.options().upsert(true).returnNew(true),
+                    NotificationCounter.class);
+            unread = notificationRepository.countUnreadByUserId(userId);
+            UpdateResult result = mongoTemplate.updateFirst(
+                    query(where("userId").is(userId).and("version").is(counter.getVersion())),
+                    new Update().set("unread", unread).set("counted", true).inc("version", 1),
+                    NotificationCounter.class);
+            if (result.getMatchedCount() > 0) {
+                break;
+            }
+        }
+        // After repeated races the count is still returned, and the next load tries again
+        return unread;
+    }
+}
\ No newline at end of file
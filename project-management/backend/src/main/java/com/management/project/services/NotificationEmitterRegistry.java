@@ -0,0 +1,142 @@
+package com.management.project.services;
+
+import com.management.project.models.Notification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Open Server-Sent Events connections, keyed by user id. Connections are held as async servlet
+ * requests, so an idle connection costs an emitter object and a socket but no thread. A user
+ * can have several connections open, one per browser tab.
+ *
+ * <p>Heartbeats run on a small pool of their own rather than the shared scheduler thread, one
+ * task per connection, so a client that stops reading holds up only its own heartbeat. A
+ * connection whose previous heartbeat is still being written is skipped on the next sweep.
+ */
+@Component
+public class NotificationEmitterRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(NotificationEmitterRegistry.class);
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Set<SseEmitter> heartbeatsInFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor heartbeatExecutor;
+
+    @Value("${app.notifications.streamTimeoutMs:1800000}")
+    private long streamTimeoutMs;
+
+    public NotificationEmitterRegistry(@Value("${app.notifications.heartbeatMs:25000}") long heartbeatMs,
+                                       @Value("${app.notifications.heartbeatThreads:2}") int heartbeatThreads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "notification-heartbeat-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.heartbeatExecutor = new ScheduledThreadPoolExecutor(heartbeatThreads, threadFactory);
+        heartbeatExecutor.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+    }
+
+    public SseEmitter register(String userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        emitters.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+        connections.incrementAndGet();
+
+        emitter.onCompletion(() -> remove(userId, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(userId, emitter));
+        return emitter;
+    }
+
+    // Delivers to every open connection of the user; returns false if the user has none
+    public boolean send(String userId, Notification notification) {
+        Set<SseEmitter> userEmitters = emitters.get(userId);
+        if (userEmitters == null) {
+            return false;
+        }
+        for (SseEmitter emitter : userEmitters) {
+            send(userId, emitter, notification);
+        }
+        return true;
+    }
+
+    public void send(String userId, SseEmitter emitter, Notification notification) {
+        try {
+            emitter.send(SseEmitter.event()
+                    .id(notification.getId())
+                    .name("notification")
+                    .data(notification, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // The client went away; drop the connection instead of failing the publisher
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    // Comment lines keep idle connections open through proxies and reveal dead clients
+    void heartbeat() {
+        try {
+            emitters.forEach((userId, userEmitters) -> {
+                for (SseEmitter emitter : userEmitters) {
+                    if (heartbeatsInFlight.add(emitter)) {
+                        heartbeatExecutor.execute(() -> keepAlive(userId, emitter));
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        } catch (RuntimeException e) {
+            // An exception would cancel the periodic task, so the next sweep must still run
+            logger.warn("Notification heartbeat sweep failed", e);
+        }
+    }
+
+    private void keepAlive(String userId, SseEmitter emitter) {
+        try {
+            emitter.send(SseEmitter.event().comment("keep-alive"));
+        } catch (Exception e) {
+            remove(userId, emitter);
+            emitter.completeWithError(e);
+        } finally {
+            heartbeatsInFlight.remove(emitter);
+        }
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    public ScheduledThreadPoolExecutor getHeartbeatExecutor() {
+        return heartbeatExecutor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private void remove(String userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (key, userEmitters) -> {
+            if (userEmitters.remove(emitter)) {
+                connections.decrementAndGet();
+            }
+            return userEmitters.isEmpty() ? null : userEmitters;
+        });
+        logger.debug("Closed notification stream for user {}", userId);
+    }
+}
\ No newline at end of file
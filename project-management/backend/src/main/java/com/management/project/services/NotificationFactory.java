@@ -0,0 +1,81 @@
+package com.management.project.services;
+
+import com.management.project.models.Notification;
+import com.management.project.models.NotificationType;
+import com.management.project.models.Project;
+import com.management.project.models.Task;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Builds the notification for each event, unsaved. Shared with the reactive variant of the
+ * API so both write the same messages. Returns null when the event has no recipient.
+ */
+public final class NotificationFactory {
+    private NotificationFactory() {
+    }
+
+    public static Notification taskAssigned(Task task) {
+        return create(task.getAssignedToId(), NotificationType.TASK_ASSIGNED,
+                "Task '" + task.getTitle() + "' has been assigned to you", taskMetadata(task));
+    }
+
+    // The leader comes from the summary embedded in the task
+    public static Notification taskSubmitted(Task task) {
+        String leaderId = task.getProject() != null && task.getProject().getLeader() != null
+                ? task.getProject().getLeader().getId() : null;
+        String assignee = task.getAssignedTo() != null ? task.getAssignedTo().getUsername() : "A member";
+        return create(leaderId, NotificationType.TASK_SUBMITTED,
+                assignee + " submitted task '" + task.getTitle() + "' for review", taskMetadata(task));
+    }
+
+    public static Notification taskReviewed(Task task, boolean approved) {
+        if (approved) {
+            return create(task.getAssignedToId(), NotificationType.TASK_COMPLETED,
+                    "Your task '" + task.getTitle() + "' has been marked as completed", taskMetadata(task));
+        }
+        return create(task.getAssignedToId(), NotificationType.TASK_REJECTED,
+                "Your task '" + task.getTitle() + "' was sent back for improvements", taskMetadata(task));
+    }
+
+    public static Notification addedToProject(Project project, String userId) {
+        return create(userId, NotificationType.ADDED_TO_PROJECT,
+                "You have been added to project '" + project.getName() + "'", projectMetadata(project));
+    }
+
+    public static Notification removedFromProject(Project project, String userId) {
+        return create(userId, NotificationType.REMOVED_FROM_PROJECT,
+                "You have been removed from project '" + project.getName() + "'", projectMetadata(project));
+    }
+
+    private static Notification create(String userId, NotificationType type, String message,
+                                       Map<String, Object> metadata) {
+        if (userId == null) {
+            return null;
+        }
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setType(type);
+        notification.setMessage(message);
+        notification.setMetadata(metadata);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+    private static Map<String, Object> taskMetadata(Task task) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("taskId", task.getId());
+        metadata.put("taskTitle", task.getTitle());
+        metadata.put("projectId", task.getProjectId());
+        return metadata;
+    }
+
+    private static Map<String, Object> projectMetadata(Project project) {
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("projectId", project.getId());
+        metadata.put("projectName", project.getName());
+        return metadata;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.management.project.services;
+
+import com.management.project.models.Notification;
+import com.management.project.models.Project;
+import com.management.project.models.Task;
+import com.management.project.repositories.NotificationRepository;
+import com.management.project.repositories.ProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Stores notifications and pushes them to the recipient's open streams. Publishing runs off
+ * the request thread, so a slow client never delays the change that triggered it.
+ */
+@Service
+public class NotificationService {
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private NotificationEmitterRegistry emitterRegistry;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private NotificationCounterService counterService;
+
+    @Async
+    public void taskAssigned(Task task) {
+        publish(NotificationFactory.taskAssigned(task));
+    }
+
+    @Async
+    public void taskSubmitted(Task task) {
+        publish(NotificationFactory.taskSubmitted(task));
+    }
+
+    @Async
+    public void taskReviewed(Task task, boolean approved) {
+        publish(NotificationFactory.taskReviewed(task, approved));
+    }
+
+    @Async
+    public void tasksAssigned(List<Task> tasks) {
+        publishAll(tasks.stream().map(NotificationFactory::taskAssigned).toList());
+    }
+
+    @Async
+    public void tasksReviewed(List<Task> tasks, boolean approved) {
+        publishAll(tasks.stream().map(task -> NotificationFactory.taskReviewed(task, approved)).toList());
+    }
+
+    @Async
+    public void addedToProject(String projectId, Collection<String> userIds) {
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            return;
+        }
+        for (String userId : userIds) {
+            publish(NotificationFactory.addedToProject(project, userId));
+        }
+    }
+
+    @Async
+    public void removedFromProject(String projectId, String userId) {
+        Project project = projectRepository.findById(projectId).orElse(null);
+        if (project == null) {
+            return;
+        }
+        publish(NotificationFactory.removedFromProject(project, userId));
+    }
+
+    private void publish(Notification notification) {
+        if (notification == null) {
+            return;
+        }
+        Notification saved = notificationRepository.save(notification);
+        counterService.increment(saved.getUserId());
+        emitterRegistry.send(saved.getUserId(), saved);
+    }
+
+    // Notifications of a batch are stored with one insert
+    private void publishAll(List<Notification> notifications) {
+        List<Notification> toSave = notifications.stream().filter(Objects::nonNull).toList();
+        if (toSave.isEmpty()) {
+            return;
+        }
+        for (Notification saved : notificationRepository.saveAll(toSave)) {
+            counterService.increment(saved.getUserId());
+            emitterRegistry.send(saved.getUserId(), saved);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,193 @@
+package com.management.project.services;
+
+import com.management.project.models.Project;
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.payload.response.TaskStats;
+import com.management.project.repositories.TaskRepository;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Keeps the {@link ProjectStats} rollup of each project current. Task transitions report the
+ * task's state before and after the change, and the difference is applied with a single $inc,
+ * so the cost does not grow with the number of tasks. A scheduled job rebuilds every
+ * rollup from the tasks to repair any drift.
+ */
+@Service
+public class ProjectStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatsService.class);
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    // The parts of a task that the rollup depends on
+    public record TaskState(TaskStatus status, int progressPercentage, String assignedToId) {
+        public static TaskState of(Task task) {
+            return new TaskState(task.getStatus(), task.getProgressPercentage(), task.getAssignedToId());
+        }
+
+        boolean isOpen() {
+            return status != TaskStatus.COMPLETED;
+        }
+    }
+
+    public void taskCreated(Task task) {
+        applyChange(task.getProjectId(), null, TaskState.of(task));
+    }
+
+    public void taskChanged(String projectId, TaskState before, Task after) {
+        applyChange(projectId, before, TaskState.of(after));
+    }
+
+    // Batches add up the changes of all their tasks and apply them with a single $inc
+    public void tasksCreated(String projectId, List<Task> tasks) {
+        Map<String, Long> deltas = new HashMap<>();
+        tasks.forEach(task -> addChange(deltas, null, TaskState.of(task)));
+        applyUpdate(projectId, toUpdate(deltas));
+    }
+
+    public void tasksChanged(String projectId, List<TaskState> before, List<Task> after) {
+        Map<String, Long> deltas = new HashMap<>();
+        for (int i = 0; i < after.size(); i++) {
+            addChange(deltas, before.get(i), TaskState.of(after.get(i)));
+        }
+        applyUpdate(projectId, toUpdate(deltas));
+    }
+
+    private void applyChange(String projectId, TaskState before, TaskState after) {
+        applyUpdate(projectId, changeOf(before, after));
+    }
+
+    // Only an existing rollup is incremented: an upsert would create one holding nothing but this
+    // change, so a missing rollup is built from the tasks instead, which already include it
+    private void applyUpdate(String projectId, Update update) {
+        if (update != null && mongoTemplate.updateFirst(query(where("projectId").is(projectId)), update,
+                ProjectStats.class).getMatchedCount() == 0) {
+            seed(projectId);
+        }
+    }
+
+    // Inserts a rollup built from the tasks, unless another request created one in the meantime
+    private void seed(String projectId) {
+        ProjectStats stats = taskRepository.computeProjectStats(projectId);
+        stats.setRebuiltAt(LocalDateTime.now());
+        mongoTemplate.upsert(query(where("projectId").is(projectId)),
+                insertOnly(stats, mongoTemplate.getConverter()), ProjectStats.class);
+    }
+
+    // A $setOnInsert of every field of the rollup, so the upsert leaves an existing one untouched
+    public static Update insertOnly(ProjectStats stats, MongoConverter converter) {
+        Document document = new Document();
+        converter.write(stats, document);
+        document.remove("_id");
+        Update update = new Update();
+        document.forEach(update::setOnInsert);
+        return update;
+    }
+
+    // The $inc that moves a rollup from before to after (before is null for a new task), or null
+    // when nothing the rollup counts has changed
+    public static Update changeOf(TaskState before, TaskState after) {
+        Map<String, Long> deltas = new HashMap<>();
+        addChange(deltas, before, after);
+        return toUpdate(deltas);
+    }
+
+    private static void addChange(Map<String, Long> deltas, TaskState before, TaskState after) {
+        if (before == null) {
+            deltas.merge("total", 1L, Long::sum);
+        } else {
+            add(deltas, before, -1);
+        }
+        add(deltas, after, 1);
+    }
+
+    private static Update toUpdate(Map<String, Long> deltas) {
+        deltas.values().removeIf(delta -> delta == 0);
+        if (deltas.isEmpty()) {
+            return null;
+        }
+
+        Update update = new Update();
+        deltas.forEach(update::inc);
+        return update;
+    }
+
+    private static void add(Map<String, Long> deltas, TaskState state, int sign) {
+        deltas.merge("byStatus." + state.status().name(), (long) sign, Long::sum);
+        deltas.merge("progressSum", (long) sign * state.progressPercentage(), Long::sum);
+        if (state.isOpen() && state.assignedToId() != null) {
+            deltas.merge("memberLoad." + state.assignedToId(), (long) sign, Long::sum);
+        }
+    }
+
+    public TaskStats getStats(String projectId) {
+        ProjectStats projectStats = mongoTemplate.findById(projectId, ProjectStats.class);
+        if (projectStats == null) {
+            // Projects created before the rollup existed get it built on first read
+            projectStats = rebuild(projectId);
+        }
+        return toTaskStats(projectStats, taskRepository.countOverdueByProjectId(projectId));
+    }
+
+    public static TaskStats toTaskStats(ProjectStats projectStats, long overdue) {
+        TaskStats stats = new TaskStats();
+        stats.setTotal(projectStats.getTotal());
+        projectStats.getByStatus().forEach((status, count) -> stats.getByStatus().put(status, count));
+        stats.setActive(stats.getTotal() - stats.getByStatus().get(TaskStatus.COMPLETED));
+        stats.setOverdue(overdue);
+        stats.setAverageProgress(projectStats.getTotal() > 0
+                ? (double) projectStats.getProgressSum() / projectStats.getTotal() : 0);
+        stats.setMemberLoad(new HashMap<>(projectStats.getMemberLoad()));
+        stats.getMemberLoad().values().removeIf(load -> load == 0);
+        return stats;
+    }
+
+    // Increments that land between the rescan and the save are lost until the next rebuild
+    public ProjectStats rebuild(String projectId) {
+        ProjectStats stats = taskRepository.computeProjectStats(projectId);
+        stats.setRebuiltAt(LocalDateTime.now());
+        return mongoTemplate.save(stats);
+    }
+
+    public void delete(String projectId) {
+        mongoTemplate.remove(query(where("projectId").is(projectId)), ProjectStats.class);
+    }
+
+    @Scheduled(cron = "${app.stats.repairCron:0 30 3 * * *}")
+    public void rebuildAll() {
+        Query projectIds = new Query();
+        projectIds.fields().include("_id");
+
+        int rebuilt = 0;
+        try (Stream<Project> projects = mongoTemplate.stream(projectIds, Project.class)) {
+            for (Project project : (Iterable<Project>) projects::iterator) {
+                rebuild(project.getId());
+                rebuilt++;
+            }
+        }
+        logger.info("Rebuilt task statistics for {} projects", rebuilt);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.management.project.services;
+
+import com.management.project.models.UserSummary;
+import com.mongodb.DBRef;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rewrites projects and tasks stored with DBRef fields into the embedded summary layout:
+ * {@code leader}/{@code members} and {@code project}/{@code assignedTo} become summaries, and
+ * the referenced ids are copied into {@code leaderId}, {@code memberIds}, {@code projectId} and
+ * {@code assignedToId}. Only documents that still hold a DBRef are touched, so it is safe to
+ * run on every startup.
+ */
+@Service
+@Order(1)
+public class StorageMigration implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(StorageMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Value("${app.storage.migrateOnStartup:true}")
+    private boolean migrateOnStartup;
+
+    @Override
+    public void run(String... args) throws Exception {
+        if (migrateOnStartup) {
+            migrateProjects();
+            migrateTasks();
+            backfillTimestamps("projects");
+            backfillTimestamps("tasks");
+            backfillVersions();
+        }
+    }
+
+    // Task transitions match on the version, so tasks saved before it existed start at 0
+    private void backfillVersions() {
+        long backfilled = mongoTemplate.getCollection("tasks")
+                .updateMany(Filters.exists("version", false), Updates.set("version", 0L))
+                .getModifiedCount();
+        if (backfilled > 0) {
+            logger.info("Backfilled version on {} tasks", backfilled);
+        }
+    }
+
+    // Keyset pagination orders by createdAt/updatedAt, so neither may be missing
+    private void backfillTimestamps(String collection) {
+        MongoCollection<Document> documents = mongoTemplate.getCollection(collection);
+        Bson missing = Filters.or(Filters.eq("createdAt", null), Filters.eq("updatedAt", null));
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        int backfilled = 0;
+        for (Document document : documents.find(missing).projection(Projections.include("createdAt", "updatedAt"))) {
+            Object id = document.get("_id");
+            Date createdAt = document.getDate("createdAt");
+            if (createdAt == null) {
+                createdAt = id instanceof ObjectId objectId ? objectId.getDate() : new Date();
+            }
+            Date updatedAt = document.getDate("updatedAt") != null ? document.getDate("updatedAt") : createdAt;
+
+            writes.add(new UpdateOneModel<>(Filters.eq("_id", id),
+                    Updates.combine(Updates.set("createdAt", createdAt), Updates.set("updatedAt", updatedAt))));
+            if (writes.size() == BATCH_SIZE) {
+                backfilled += documents.bulkWrite(writes, new BulkWriteOptions().ordered(false)).getModifiedCount();
+                writes.clear();
+            }
+        }
+        if (!writes.isEmpty()) {
+            backfilled += documents.bulkWrite(writes, new BulkWriteOptions().ordered(false)).getModifiedCount();
+        }
+
+        if (backfilled > 0) {
+            logger.info("Backfilled createdAt/updatedAt on {} {}", backfilled, collection);
+        }
+    }
+
+    private void migrateProjects() {
+        MongoCollection<Document> projects = mongoTemplate.getCollection("projects");
+        Bson legacy = Filters.or(Filters.exists("leader.$ref"), Filters.exists("members.$ref"));
+
+        List<Document> batch = new ArrayList<>();
+        int migrated = 0;
+        for (Document project : projects.find(legacy)) {
+            batch.add(project);
+            if (batch.size() == BATCH_SIZE) {
+                migrated += migrateProjectBatch(projects, batch);
+                batch.clear();
+            }
+        }
+        migrated += migrateProjectBatch(projects, batch);
+
+        if (migrated > 0) {
+            logger.info("Migrated {} projects to embedded member summaries", migrated);
+        }
+    }
+
+    private int migrateProjectBatch(MongoCollection<Document> projects, List<Document> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<Object> userIds = new HashSet<>();
+        for (Document project : batch) {
+            addIfPresent(userIds, refId(project.get("leader")));
+            for (Object member : listOf(project.get("members"))) {
+                addIfPresent(userIds, refId(member));
+            }
+        }
+        Map<Object, Document> users = loadUserSummaries(userIds);
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (Document project : batch) {
+            Object leaderId = refId(project.get("leader"));
+            List<String> memberIds = new ArrayList<>();
+            List<Document> members = new ArrayList<>();
+            for (Object member : listOf(project.get("members"))) {
+                Object memberId = refId(member);
+                if (memberId != null && users.containsKey(memberId)) {
+                    memberIds.add(memberId.toString());
+                    members.add(users.get(memberId));
+                }
+            }
+
+            Document set = new Document()
+                    .append("leaderId", leaderId != null ? leaderId.toString() : null)
+                    .append("leader", leaderId != null ? users.get(leaderId) : null)
+                    .append("memberIds", memberIds)
+                    .append("members", members);
+            writes.add(new UpdateOneModel<>(Filters.eq("_id", project.get("_id")), new Document("$set", set)));
+        }
+
+        projects.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        return writes.size();
+    }
+
+    private void migrateTasks() {
+        MongoCollection<Document> tasks = mongoTemplate.getCollection("tasks");
+        Bson legacy = Filters.or(Filters.exists("project.$ref"), Filters.exists("assignedTo.$ref"));
+
+        List<Document> batch = new ArrayList<>();
+        int migrated = 0;
+        for (Document task : tasks.find(legacy)) {
+            batch.add(task);
+            if (batch.size() == BATCH_SIZE) {
+                migrated += migrateTaskBatch(tasks, batch);
+                batch.clear();
+            }
+        }
+        migrated += migrateTaskBatch(tasks, batch);
+
+        if (migrated > 0) {
+            logger.info("Migrated {} tasks to embedded project and assignee summaries", migrated);
+        }
+    }
+
+    private int migrateTaskBatch(MongoCollection<Document> tasks, List<Document> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        Set<Object> projectIds = new HashSet<>();
+        Set<Object> userIds = new HashSet<>();
+        for (Document task : batch) {
+            addIfPresent(projectIds, refId(task.get("project")));
+            addIfPresent(userIds, refId(task.get("assignedTo")));
+        }
+        Map<Object, Document> projects = loadProjectSummaries(projectIds);
+        Map<Object, Document> users = loadUserSummaries(userIds);
+
+        List<WriteModel<Document>> writes = new ArrayList<>();
+        for (Document task : batch) {
+            Object projectId = refId(task.get("project"));
+            Object assigneeId = refId(task.get("assignedTo"));
+
+            Document set = new Document()
+                    .append("projectId", projectId != null ? projectId.toString() : null)
+                    .append("project", projectId != null ? projects.get(projectId) : null)
+                    .append("assignedToId", assigneeId != null ? assigneeId.toString() : null)
+                    .append("assignedTo", assigneeId != null ? users.get(assigneeId) : null);
+            writes.add(new UpdateOneModel<>(Filters.eq("_id", task.get("_id")), new Document("$set", set)));
+        }
+
+        tasks.bulkWrite(writes, new BulkWriteOptions().ordered(false));
+        return writes.size();
+    }
+
+    private Map<Object, Document> loadUserSummaries(Collection<Object> ids) {
+        Map<Object, Document> summaries = new HashMap<>();
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+        mongoTemplate.getCollection("users")
+                .find(Filters.in("_id", ids))
+                .projection(Projections.include("username", "fullName"))
+                .forEach(user -> summaries.put(user.get("_id"), toMongo(new UserSummary(
+                        user.get("_id").toString(), user.getString("username"), user.getString("fullName")))));
+        return summaries;
+    }
+
+    // Projects are migrated first, so their leader summary is already embedded
+    private Map<Object, Document> loadProjectSummaries(Collection<Object> ids) {
+        Map<Object, Document> summaries = new HashMap<>();
+        if (ids.isEmpty()) {
+            return summaries;
+        }
+        mongoTemplate.getCollection("projects")
+                .find(Filters.in("_id", ids))
+                .projection(Projections.include("name", "leader"))
+                .forEach(project -> summaries.put(project.get("_id"), new Document()
+                        .append("_id", project.get("_id"))
+                        .append("name", project.get("name"))
+                        .append("leader", project.get("leader"))));
+        return summaries;
+    }
+
+    private Document toMongo(Object value) {
+        return (Document) mongoTemplate.getConverter().convertToMongoType(value);
+    }
+
+    // The driver may hand back a reference either as a DBRef or as a plain {$ref, $id} document
+    private static Object refId(Object value) {
+        if (value instanceof DBRef dbRef) {
+            return dbRef.getId();
+        }
+        if (value instanceof Document document && document.containsKey("$ref")) {
+            return document.get("$id");
+        }
+        return null;
+    }
+
+    private static List<?> listOf(Object value) {
+        return value instanceof List<?> list ? list : List.of();
+    }
+
+    private static void addIfPresent(Set<Object> ids, Object id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+}
\ No newline at end of file
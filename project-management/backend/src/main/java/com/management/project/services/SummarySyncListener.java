@@ -0,0 +1,29 @@
+package com.management.project.services;
+
+import com.management.project.models.Project;
+import com.management.project.models.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+// Propagates user and project changes into the summaries embedded elsewhere and the user directory
+@Component
+public class SummarySyncListener extends AbstractMongoEventListener<Object> {
+    @Autowired
+    private SummarySyncService summarySyncService;
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<Object> event) {
+        Object source = event.getSource();
+        if (source instanceof User user) {
+            summarySyncService.refreshUserSummaries(user);
+            userDirectory.put(user);
+        } else if (source instanceof Project project) {
+            summarySyncService.refreshProjectSummaries(project);
+        }
+    }
+}
\ No newline at end of file
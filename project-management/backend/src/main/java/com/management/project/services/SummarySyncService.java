@@ -0,0 +1,78 @@
+package com.management.project.services;
+
+import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
+import com.management.project.models.Task;
+import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import com.management.project.repositories.ProjectRepository;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Refreshes the user and project summaries embedded in other documents. Runs off the request
+ * thread; every update is a multi-document $set selected through an indexed id field. The
+ * change counters of the affected projects are bumped after the summaries are written, so
+ * conditional reads do not keep answering 304 with the old summaries.
+ */
+@Service
+public class SummarySyncService {
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Async
+    public void refreshUserSummaries(User user) {
+        UserSummary summary = UserSummary.of(user);
+
+        Query assignedTasks = query(where("assignedToId").is(user.getId()));
+        mongoTemplate.updateMulti(assignedTasks, new Update().set("assignedTo", summary), Task.class);
+        Set<String> changedTaskProjects = new HashSet<>(
+                mongoTemplate.findDistinct(assignedTasks, "projectId", Task.class, String.class));
+
+        mongoTemplate.updateMulti(query(where("leaderId").is(user.getId())),
+                new Update().set("leader", summary).inc("revision", 1), Project.class);
+
+        // Summaries embed the id as _id, stored as an ObjectId like the users' own ids
+        Object storedId = ObjectId.isValid(user.getId()) ? new ObjectId(user.getId()) : user.getId();
+        mongoTemplate.updateMulti(query(where("memberIds").is(user.getId())),
+                new Update().set("members.$[member]", summary)
+                        .inc("revision", 1)
+                        .filterArray(Criteria.where("member._id").is(storedId)),
+                Project.class);
+
+        Query ledProjects = query(where("leaderId").is(user.getId()));
+        ledProjects.fields().include("_id");
+        List<String> projectIds = mongoTemplate.find(ledProjects, Project.class).stream()
+                .map(Project::getId)
+                .toList();
+        if (!projectIds.isEmpty()) {
+            mongoTemplate.updateMulti(query(where("projectId").in(projectIds)),
+                    new Update().set("project.leader", summary), Task.class);
+            changedTaskProjects.addAll(projectIds);
+        }
+        projectRepository.incrementTasksRevision(changedTaskProjects);
+    }
+
+    @Async
+    public void refreshProjectSummaries(Project project) {
+        mongoTemplate.updateMulti(query(where("projectId").is(project.getId())),
+                new Update().set("project", ProjectSummary.of(project)), Task.class);
+        projectRepository.incrementTasksRevision(List.of(project.getId()));
+    }
+}
\ No newline at end of file
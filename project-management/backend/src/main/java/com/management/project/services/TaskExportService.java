@@ -0,0 +1,150 @@
+package com.management.project.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Writes all tasks of a project as NDJSON or CSV straight from a Mongo cursor. Only the exported
+ * fields are read, documents are not mapped to {@code Task}, and each row is written as soon as
+ * it arrives, so memory use does not depend on the size of the project.
+ */
+@Service
+public class TaskExportService {
+    private static final int CURSOR_BATCH_SIZE = 1000;
+
+    // Exported columns in order, with the stored field each one is read from
+    private static final List<Column> COLUMNS = List.of(
+            new Column("id", "_id"),
+            new Column("title", "title"),
+            new Column("description", "description"),
+            new Column("status", "status"),
+            new Column("progressPercentage", "progressPercentage"),
+            new Column("assignedToId", "assignedToId"),
+            new Column("assignedTo", "assignedTo.username"),
+            new Column("startDate", "startDate"),
+            new Column("dueDate", "dueDate"),
+            new Column("completedDate", "completedDate"),
+            new Column("createdAt", "createdAt"),
+            new Column("updatedAt", "updatedAt"));
+
+    private record Column(String name, String field) {
+        // Exported value, with dates stored as UTC instants turned back into the server's local time
+        Object read(Document task) {
+            Object value = task.getEmbedded(List.of(field.split("\\.")), Object.class);
+            if (value instanceof Date date) {
+                return LocalDateTime.ofInstant(date.toInstant(), ZoneId.systemDefault());
+            }
+            return value;
+        }
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        public final String contentType;
+        public final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+    }
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void export(String projectId, Format format, OutputStream out) throws IOException {
+        if (format == Format.CSV) {
+            writeCsv(projectId, out);
+        } else {
+            writeNdjson(projectId, out);
+        }
+    }
+
+    private void writeNdjson(String projectId, OutputStream out) throws IOException {
+        try (MongoCursor<Document> cursor = openCursor(projectId);
+             JsonGenerator json = objectMapper.getFactory().createGenerator(out)) {
+            // One object per line, without the space Jackson puts between root values
+            json.setRootValueSeparator(null);
+            while (cursor.hasNext()) {
+                Document task = cursor.next();
+                json.writeStartObject();
+                for (Column column : COLUMNS) {
+                    Object value = column.read(task);
+                    if (value == null) {
+                        json.writeNullField(column.name());
+                    } else if (value instanceof Number number) {
+                        json.writeNumberField(column.name(), number.longValue());
+                    } else {
+                        json.writeStringField(column.name(), value.toString());
+                    }
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writeCsv(String projectId, OutputStream out) throws IOException {
+        try (MongoCursor<Document> cursor = openCursor(projectId);
+             Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < COLUMNS.size(); i++) {
+                writer.write(i > 0 ? "," : "");
+                writer.write(COLUMNS.get(i).name());
+            }
+            writer.write("\r\n");
+
+            while (cursor.hasNext()) {
+                Document task = cursor.next();
+                for (int i = 0; i < COLUMNS.size(); i++) {
+                    writer.write(i > 0 ? "," : "");
+                    Object value = COLUMNS.get(i).read(task);
+                    if (value != null) {
+                        writer.write(csvField(value.toString()));
+                    }
+                }
+                writer.write("\r\n");
+            }
+        }
+    }
+
+    // Ordered like the paged list, on the same index, and fetched a batch at a time
+    private MongoCursor<Document> openCursor(String projectId) {
+        List<String> fields = COLUMNS.stream().map(Column::field).toList();
+        return mongoTemplate.getCollection("tasks")
+                .find(Filters.eq("projectId", projectId))
+                .projection(Projections.include(fields))
+                .sort(Sorts.ascending("createdAt", "_id"))
+                .batchSize(CURSOR_BATCH_SIZE)
+                .cursor();
+    }
+
+    private static String csvField(String value) {
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.management.project.services;
+
+import com.management.project.models.User;
+import com.management.project.payload.response.UserInfoResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * In-memory prefix index of the user directory for typeahead search. Every user is indexed
+ * under their lowercased username, email, full name and each word of the full name; a search
+ * walks the sorted keys that start with the query, so it never touches the database.
+ * <p>
+ * The index is loaded at startup and updated as users are saved on this instance. It is rebuilt
+ * from the {@code users} collection every {@code app.users.directory.rebuildMs} to pick up
+ * changes made through other instances.
+ */
+@Service
+@Order(3)
+public class UserDirectory implements CommandLineRunner {
+    private static final Logger logger = LoggerFactory.getLogger(UserDirectory.class);
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    // Keys are token + SEPARATOR + user id, so users sharing a token get keys of their own
+    private static final char SEPARATOR = '\u0000';
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    private volatile Index index = new Index();
+
+    // Saves seen while a rebuild is reading the collection, replayed onto the rebuilt index
+    private List<Entry> savedDuringRebuild;
+
+    // The fields a search result needs, and nothing else
+    private record Entry(String id, String username, String email, String fullName) {
+        static Entry of(User user) {
+            return new Entry(user.getId(), user.getUsername(), user.getEmail(), user.getFullName());
+        }
+
+        Set<String> tokens() {
+            Set<String> tokens = new LinkedHashSet<>();
+            addToken(tokens, username);
+            addToken(tokens, email);
+            addToken(tokens, fullName);
+            if (fullName != null) {
+                for (String word : fullName.split("\\s+")) {
+                    addToken(tokens, word);
+                }
+            }
+            return tokens;
+        }
+
+        UserInfoResponse toResponse() {
+            return new UserInfoResponse(id, username, email, fullName);
+        }
+    }
+
+    private static final class Index {
+        private final ConcurrentSkipListMap<String, Entry> byToken = new ConcurrentSkipListMap<>();
+        private final Map<String, Entry> byId = new HashMap<>();
+
+        void put(Entry entry) {
+            Entry previous = byId.put(entry.id(), entry);
+            if (previous != null) {
+                previous.tokens().forEach(token -> byToken.remove(key(token, previous.id())));
+            }
+            entry.tokens().forEach(token -> byToken.put(key(token, entry.id()), entry));
+        }
+    }
+
+    @Override
+    public void run(String... args) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.users.directory.rebuildMs:300000}",
+            initialDelayString = "${app.users.directory.rebuildMs:300000}")
+    public void rebuild() {
+        synchronized (this) {
+            savedDuringRebuild = new ArrayList<>();
+        }
+
+        Query users = new Query();
+        users.fields().include("username", "email", "fullName");
+        Index rebuilt = new Index();
+        try (Stream<User> stream = mongoTemplate.stream(users, User.class)) {
+            stream.forEach(user -> rebuilt.put(Entry.of(user)));
+        } finally {
+            synchronized (this) {
+                savedDuringRebuild.forEach(rebuilt::put);
+                savedDuringRebuild = null;
+                index = rebuilt;
+            }
+        }
+        logger.debug("Indexed {} users for directory search", rebuilt.byId.size());
+    }
+
+    // Called after a user is saved on this instance, e.g. at signup or on a profile change
+    public synchronized void put(User user) {
+        Entry entry = Entry.of(user);
+        index.put(entry);
+        if (savedDuringRebuild != null) {
+            savedDuringRebuild.add(entry);
+        }
+    }
+
+    // Users with a username, email, full name or name word starting with the query, at most limit
+    public List<UserInfoResponse> search(String query, int limit) {
+        String prefix = query.trim().toLowerCase(Locale.ROOT);
+        Map<String, Entry> matches = new LinkedHashMap<>();
+        for (Entry entry : index.byToken.subMap(prefix, prefix + Character.MAX_VALUE).values()) {
+            matches.putIfAbsent(entry.id(), entry);
+            if (matches.size() == limit) {
+                break;
+            }
+        }
+        return matches.values().stream().map(Entry::toResponse).toList();
+    }
+
+    public int size() {
+        return index.byId.size();
+    }
+
+    private static void addToken(Set<String> tokens, String value) {
+        if (value != null && !value.isBlank()) {
+            tokens.add(value.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private static String key(String token, String id) {
+        return token + SEPARATOR + id;
+    }
+}
\ No newline at end of file
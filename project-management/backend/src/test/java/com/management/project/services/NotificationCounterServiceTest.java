@@ -0,0 +1,83 @@
+package com.management.project.services;
+
+import com.management.project.models.NotificationCounter;
+import com.management.project.repositories.NotificationRepository;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationCounterServiceTest {
+    private static final String USER_ID = "user-1";
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private NotificationRepository notificationRepository;
+    private NotificationCounterService counterService;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create(server.bindAndGetConnectionString());
+        mongoTemplate = new MongoTemplate(client, "test");
+        notificationRepository = mock(NotificationRepository.class);
+        counterService = new NotificationCounterService(mongoTemplate, notificationRepository, 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void notificationPublishedWhileCountingIsNotLost() {
+        // The first count misses a notification that is published before the count is stored
+        AtomicInteger unread = new AtomicInteger(2);
+        AtomicInteger counts = new AtomicInteger();
+        when(notificationRepository.countUnreadByUserId(USER_ID)).thenAnswer(invocation -> {
+            int stored = unread.get();
+            if (counts.incrementAndGet() == 1) {
+                unread.incrementAndGet();
+                counterService.increment(USER_ID);
+            }
+            return (long) stored;
+        });
+
+        assertEquals(3, counterService.recount(USER_ID));
+
+        NotificationCounter counter = mongoTemplate.findById(USER_ID, NotificationCounter.class);
+        assertEquals(3, counter.getUnread());
+        assertTrue(counter.isCounted());
+        assertEquals(2, counts.get());
+    }
+
+    @Test
+    void counterCreatedByAChangeIsCountedOnFirstRead() {
+        when(notificationRepository.countUnreadByUserId(USER_ID)).thenReturn(5L);
+
+        // Only holds this one change until the counter is counted
+        counterService.increment(USER_ID);
+        assertEquals(5, counterService.getUnread(USER_ID));
+
+        counterService.increment(USER_ID);
+        counterService.decrement(USER_ID, 2);
+        counterService.getCache().invalidateAll();
+        assertEquals(4, counterService.getUnread(USER_ID));
+        verify(notificationRepository, times(1)).countUnreadByUserId(USER_ID);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.management.project.services;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.repositories.TaskRepository;
+import com.management.project.repositories.TaskRepositoryCustomImpl;
+import com.management.project.services.ProjectStatsService.TaskState;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ProjectStatsServiceTest {
+    private static final String PROJECT_ID = "project-1";
+
+    private MongoServer server;
+    private MongoClient client;
+    private MongoTemplate mongoTemplate;
+    private ProjectStatsService projectStatsService;
+
+    @BeforeEach
+    void setUp() {
+        server = new MongoServer(new MemoryBackend());
+        client = MongoClients.create(server.bindAndGetConnectionString());
+        mongoTemplate = new MongoTemplate(client, "test");
+
+        // The rollup is rebuilt through the real aggregation of TaskRepositoryCustomImpl
+        TaskRepositoryCustomImpl taskQueries = new TaskRepositoryCustomImpl();
+        ReflectionTestUtils.setField(taskQueries, "mongoTemplate", mongoTemplate);
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.computeProjectStats(anyString()))
+                .thenAnswer(invocation -> taskQueries.computeProjectStats(invocation.getArgument(0)));
+
+        projectStatsService = new ProjectStatsService();
+        ReflectionTestUtils.setField(projectStatsService, "mongoTemplate", mongoTemplate);
+        ReflectionTestUtils.setField(projectStatsService, "taskRepository", taskRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.shutdown();
+    }
+
+    @Test
+    void firstTransitionOfExistingProjectBuildsTheWholeRollup() {
+        // Tasks stored before the project had a rollup
+        insertTask("t1", TaskStatus.PENDING, 0, "u1");
+        insertTask("t2", TaskStatus.PENDING, 0, "u2");
+        Task started = insertTask("t3", TaskStatus.PENDING, 0, "u1");
+
+        TaskState before = TaskState.of(started);
+        started.setStatus(TaskStatus.IN_PROGRESS);
+        started.setProgressPercentage(30);
+        mongoTemplate.save(started);
+        projectStatsService.taskChanged(PROJECT_ID, before, started);
+
+        ProjectStats stats = mongoTemplate.findById(PROJECT_ID, ProjectStats.class);
+        assertEquals(3, stats.getTotal());
+        assertEquals(2, stats.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(30, stats.getProgressSum());
+        assertEquals(2, stats.getMemberLoad().get("u1"));
+        assertEquals(1, stats.getMemberLoad().get("u2"));
+    }
+
+    @Test
+    void laterTransitionsIncrementTheRollup() {
+        insertTask("t1", TaskStatus.PENDING, 0, "u1");
+        Task task = insertTask("t2", TaskStatus.PENDING, 0, "u1");
+        projectStatsService.rebuild(PROJECT_ID);
+
+        TaskState before = TaskState.of(task);
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setProgressPercentage(100);
+        mongoTemplate.save(task);
+        projectStatsService.taskChanged(PROJECT_ID, before, task);
+
+        ProjectStats stats = mongoTemplate.findById(PROJECT_ID, ProjectStats.class);
+        assertEquals(2, stats.getTotal());
+        assertEquals(1, stats.getByStatus().get(TaskStatus.PENDING));
+        assertEquals(1, stats.getByStatus().get(TaskStatus.COMPLETED));
+        assertEquals(100, stats.getProgressSum());
+        assertEquals(1, stats.getMemberLoad().get("u1"));
+    }
+
+    private Task insertTask(String id, TaskStatus status, int progress, String assigneeId) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setProjectId(PROJECT_ID);
+        task.setStatus(status);
+        task.setProgressPercentage(progress);
+        task.setAssignedToId(assigneeId);
+        return mongoTemplate.insert(task);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.management.project.benchmarks;
+
+import com.management.project.models.ERole;
+import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
+import com.management.project.models.Role;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Documents shaped like the ones the backend stores, shared by the benchmarks
+final class Fixtures {
+    static final Role LEADER_ROLE = new Role(new ObjectId().toHexString(), ERole.ROLE_LEADER);
+    static final Role MEMBER_ROLE = new Role(new ObjectId().toHexString(), ERole.ROLE_MEMBER);
+
+    private Fixtures() {
+    }
+
+    static User user(int n, Role... roles) {
+        User user = new User();
+        user.setId(new ObjectId().toHexString());
+        user.setUsername("user" + n);
+        user.setEmail("user" + n + "@example.com");
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOa4dYh5rMDhEGB9bhQpBZyM5uWqfUq1e");
+        user.setFullName("User Number " + n);
+        user.getRoles().addAll(List.of(roles));
+        return user;
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(user(i, MEMBER_ROLE));
+        }
+        return users;
+    }
+
+    static Project project(User leader, List<User> members) {
+        Project project = new Project();
+        project.setId(new ObjectId().toHexString());
+        project.setName("Customer portal redesign");
+        project.setDescription("Rebuild the customer portal on the new design system.");
+        project.setProblemStatement("Customers cannot find their invoices or change their plan without support.");
+        project.setCreatedAt(LocalDateTime.now().minusDays(30));
+        project.setUpdatedAt(LocalDateTime.now());
+        project.setLeaderId(leader.getId());
+        project.setLeader(UserSummary.of(leader));
+        project.getMemberIds().add(leader.getId());
+        project.getMembers().add(UserSummary.of(leader));
+        for (User member : members) {
+            project.getMemberIds().add(member.getId());
+            project.getMembers().add(UserSummary.of(member));
+        }
+        return project;
+    }
+
+    static Task task(Project project, User assignee, int n) {
+        Task task = new Task();
+        task.setId(new ObjectId().toHexString());
+        task.setTitle("Task " + n);
+        task.setDescription("Implement and review part " + n + " of the redesign.");
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setStartDate(LocalDateTime.now().minusDays(3));
+        task.setDueDate(LocalDateTime.now().plusDays(10));
+        task.setCreatedAt(LocalDateTime.now().minusDays(3));
+        task.setUpdatedAt(LocalDateTime.now());
+        task.setProjectId(project.getId());
+        task.setProject(ProjectSummary.of(project));
+        task.setAssignedToId(assignee.getId());
+        task.setAssignedTo(UserSummary.of(assignee));
+        task.setProgressPercentage(40);
+        task.setVersion(3L);
+        return task;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.management.project.benchmarks;
+
+import com.management.project.security.UserDetailsImpl;
+import com.management.project.security.jwt.JwtUtils;
+import com.management.project.security.jwt.JwtValidationResult;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign and verify throughput of {@link JwtUtils}. The {@code perCall*} benchmarks reproduce the
+ * previous implementation, which decoded the secret and built a new parser on every call and
+ * parsed each token twice (validate, then read the subject). Run single-threaded, so the scores
+ * are operations per second per core.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+    static final String SECRET = "yourSecretKey12345678901234567890123456789012";
+    static final int EXPIRATION_MS = 86400000;
+
+    private JwtUtils jwtUtils;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtils = newJwtUtils();
+
+        UserDetailsImpl principal = new UserDetailsImpl("65f1a2b3c4d5e6f7a8b9c0d1", "leader",
+                "leader@example.com", "hash", Collections.emptyList());
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = jwtUtils.generateJwtToken(authentication);
+    }
+
+    static JwtUtils newJwtUtils() {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(utils, "jwtKeyId", "primary");
+        ReflectionTestUtils.setField(utils, "jwtPreviousKeys", "");
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", EXPIRATION_MS);
+        utils.init();
+        return utils;
+    }
+
+    private static Key perCallKey() {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    }
+
+    @Benchmark
+    public String perCallSign() {
+        return Jwts.builder()
+                .setSubject("leader")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date((new Date()).getTime() + EXPIRATION_MS))
+                .signWith(perCallKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String perCallVerify() {
+        Jwts.parserBuilder().setSigningKey(perCallKey()).build().parseClaimsJws(token);
+        return Jwts.parserBuilder()
+                .setSigningKey(perCallKey())
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String cachedSign() {
+        return jwtUtils.generateJwtToken(authentication);
+    }
+
+    @Benchmark
+    public JwtValidationResult cachedVerify() {
+        return jwtUtils.parseJwtToken(token);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.management.project.benchmarks;
+
+import com.management.project.models.User;
+import com.management.project.security.ProjectAccessService.ProjectAccess;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The "is this user a member or the leader" check that guards the task endpoints. The
+ * {@code entity*} benchmarks reproduce the previous check, {@code members.contains(user)} on a
+ * set of whole {@link User} documents, whose Lombok equals and hashCode cover every field and
+ * the roles; {@code access*} is the current {@link ProjectAccess} id lookup. Each call checks the
+ * next member or outsider in turn, so a score covers every bucket the ids landed in rather than
+ * the one bucket of a single looked-up user.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class MembershipBenchmark {
+    private static final int OUTSIDERS = 64;
+
+    @Param({"10", "100", "1000"})
+    private int members;
+
+    private Set<User> memberEntities;
+    private User leader;
+    private User[] memberProbes;
+    private User[] outsiderProbes;
+    private int nextMember;
+    private int nextOutsider;
+    private ProjectAccess access;
+
+    @Setup
+    public void setup() {
+        leader = Fixtures.user(0, Fixtures.LEADER_ROLE);
+        List<User> users = Fixtures.users(members);
+        memberProbes = users.toArray(new User[0]);
+        outsiderProbes = new User[OUTSIDERS];
+        for (int i = 0; i < OUTSIDERS; i++) {
+            outsiderProbes[i] = Fixtures.user(members + 1 + i, Fixtures.MEMBER_ROLE);
+        }
+
+        memberEntities = new HashSet<>(users);
+        access = ProjectAccess.of(Fixtures.project(leader, users));
+    }
+
+    @Benchmark
+    public boolean entityMember() {
+        User member = nextMember();
+        return memberEntities.contains(member) || leader.getId().equals(member.getId());
+    }
+
+    @Benchmark
+    public boolean entityOutsider() {
+        User outsider = nextOutsider();
+        return memberEntities.contains(outsider) || leader.getId().equals(outsider.getId());
+    }
+
+    @Benchmark
+    public boolean accessMember() {
+        User member = nextMember();
+        return access.isMember(member.getId()) || access.isLeader(member.getId());
+    }
+
+    @Benchmark
+    public boolean accessOutsider() {
+        User outsider = nextOutsider();
+        return access.isMember(outsider.getId()) || access.isLeader(outsider.getId());
+    }
+
+    private User nextMember() {
+        if (++nextMember == memberProbes.length) {
+            nextMember = 0;
+        }
+        return memberProbes[nextMember];
+    }
+
+    private User nextOutsider() {
+        if (++nextOutsider == OUTSIDERS) {
+            nextOutsider = 0;
+        }
+        return outsiderProbes[nextOutsider];
+    }
+}
\ No newline at end of file
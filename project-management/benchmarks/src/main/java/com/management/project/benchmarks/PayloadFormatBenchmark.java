@@ -0,0 +1,89 @@
+package com.management.project.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.models.Project;
+import com.management.project.models.Task;
+import com.management.project.models.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Task lists in each of the representations the API can negotiate: JSON, Smile and CBOR.
+ * {@code write} and {@code read} are the encode and decode cost; {@code writeGzip} adds the
+ * gzip compression the server applies to larger responses. The encoded and gzipped sizes,
+ * the bytes on the wire, are printed once per trial.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+    private static final TypeReference<List<Task>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    // A default page from /api/tasks/project/{id}, and a full batch
+    @Param({"50", "500"})
+    private int tasks;
+
+    private ObjectMapper objectMapper;
+    private List<Task> taskList;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+            default -> Jackson2ObjectMapperBuilder.json().build();
+        };
+
+        User leader = Fixtures.user(0, Fixtures.LEADER_ROLE);
+        List<User> users = Fixtures.users(20);
+        Project project = Fixtures.project(leader, users);
+        taskList = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            taskList.add(Fixtures.task(project, users.get(i % users.size()), i));
+        }
+
+        encoded = objectMapper.writeValueAsBytes(taskList);
+        System.out.printf("%n%s, %d tasks: %d bytes, %d bytes gzipped%n",
+                format, tasks, encoded.length, gzip(encoded).length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        return objectMapper.writeValueAsBytes(taskList);
+    }
+
+    @Benchmark
+    public byte[] writeGzip() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(taskList));
+    }
+
+    @Benchmark
+    public List<Task> read() throws IOException {
+        return objectMapper.readValue(encoded, TASK_LIST);
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+}
\ No newline at end of file
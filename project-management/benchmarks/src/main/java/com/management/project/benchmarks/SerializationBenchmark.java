@@ -0,0 +1,72 @@
+package com.management.project.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.models.Project;
+import com.management.project.models.Task;
+import com.management.project.models.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the response bodies the API writes most: a single task with its embedded
+ * project and assignee, a page of tasks, and a project with its member summaries. The mapper
+ * is configured the way Spring Boot configures the backend's.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+    @Param({"10", "100"})
+    private int members;
+
+    private ObjectMapper objectMapper;
+    private Project project;
+    private Task task;
+    private List<Task> page;
+    private byte[] taskJson;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        User leader = Fixtures.user(0, Fixtures.LEADER_ROLE);
+        List<User> users = Fixtures.users(members);
+        project = Fixtures.project(leader, users);
+        task = Fixtures.task(project, users.get(0), 0);
+
+        // A default-sized page from /api/tasks/project/{id}
+        page = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            page.add(Fixtures.task(project, users.get(i % users.size()), i));
+        }
+        taskJson = objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] writeTask() throws Exception {
+        return objectMapper.writeValueAsBytes(task);
+    }
+
+    @Benchmark
+    public byte[] writeTaskPage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] writeProject() throws Exception {
+        return objectMapper.writeValueAsBytes(project);
+    }
+
+    @Benchmark
+    public Task readTask() throws Exception {
+        return objectMapper.readValue(taskJson, Task.class);
+    }
+}
\ No newline at end of file
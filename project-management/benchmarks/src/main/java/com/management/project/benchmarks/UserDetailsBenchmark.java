@@ -0,0 +1,39 @@
+package com.management.project.benchmarks;
+
+import com.management.project.models.User;
+import com.management.project.security.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a loaded {@link User} into the request principal with
+ * {@link UserDetailsImpl#build}, which runs whenever a token misses the authentication cache.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 3, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@Threads(1)
+@State(Scope.Benchmark)
+public class UserDetailsBenchmark {
+    private User member;
+    private User leader;
+
+    @Setup
+    public void setup() {
+        member = Fixtures.user(1, Fixtures.MEMBER_ROLE);
+        leader = Fixtures.user(2, Fixtures.LEADER_ROLE, Fixtures.MEMBER_ROLE);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildMember() {
+        return UserDetailsImpl.build(member);
+    }
+
+    @Benchmark
+    public UserDetailsImpl buildLeader() {
+        return UserDetailsImpl.build(leader);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package com.management.project.loadtest;
+
+import com.management.project.ProjectManagementApplication;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The backend application started in this JVM, against a fresh in-memory MongoDB stand-in or
+ * a given MongoDB. The stand-in answers in microseconds, so every command can be delayed on
+ * the calling thread to model the network round trip to a real database; that wait is what a
+ * request thread spends most of its time on.
+ */
+final class BackendInstance implements AutoCloseable {
+    private final MongoServer mongoServer;
+    private final ConfigurableApplicationContext context;
+    private final int port;
+
+    private BackendInstance(MongoServer mongoServer, ConfigurableApplicationContext context) {
+        this.mongoServer = mongoServer;
+        this.context = context;
+        this.port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    // With an empty mongoUri the backend gets its own in-memory stand-in
+    static BackendInstance start(boolean virtualThreads, long mongoLatencyNanos, String mongoUri,
+                                 List<String> backendArgs) {
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need Java 21; build with -Pjava21 and run on a Java 21 JVM");
+        }
+
+        MongoServer mongoServer = null;
+        if (mongoUri.isEmpty()) {
+            mongoServer = new MongoServer(new MemoryBackend());
+            InetSocketAddress address = mongoServer.bind();
+            mongoUri = "mongodb://localhost:" + address.getPort() + "/loadtest";
+        }
+
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.data.mongodb.uri=" + mongoUri,
+                "--spring.threads.virtual.enabled=" + virtualThreads,
+                "--logging.level.root=WARN"));
+        // Anything else given on the command line goes to the backend and wins over the above
+        args.addAll(backendArgs);
+
+        ConfigurableApplicationContext context;
+        try {
+            context = new SpringApplicationBuilder(ProjectManagementApplication.class)
+                    .initializers(mongoLatency(mongoLatencyNanos))
+                    .run(args.toArray(String[]::new));
+        } catch (RuntimeException e) {
+            if (mongoServer != null) {
+                mongoServer.shutdownNow();
+            }
+            throw e;
+        }
+        return new BackendInstance(mongoServer, context);
+    }
+
+    private static ApplicationContextInitializer<ConfigurableApplicationContext> mongoLatency(long nanos) {
+        return context -> {
+            if (nanos <= 0) {
+                return;
+            }
+            CommandListener delay = new CommandListener() {
+                @Override
+                public void commandStarted(CommandStartedEvent event) {
+                    LockSupport.parkNanos(nanos);
+                }
+            };
+            context.getBeanFactory().registerSingleton("loadTestMongoLatency",
+                    (MongoClientSettingsBuilderCustomizer) builder -> builder.addCommandListener(delay));
+        };
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + port + "/api";
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        if (mongoServer != null) {
+            mongoServer.shutdownNow();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.management.project.loadtest;
+
+import com.management.project.models.ERole;
+import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
+import com.management.project.models.Role;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Synthetic data written straight into MongoDB in the layout the backend stores: leaders and
+ * members sharing one password, projects with embedded leader and member summaries, and tasks
+ * spread round robin over the projects and their members with a mix of statuses and due dates.
+ * Documents go in as batched inserts, so a million tasks take minutes rather than the hours
+ * the API would need. Project statistics are left to be built on first read.
+ */
+record Dataset(List<SeededUser> users, int projects, long tasks) {
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 1000;
+    // Open tasks remembered per user for the progress updates
+    private static final int TASK_IDS_PER_USER = 16;
+
+    /**
+     * A user the workload can act as, with the first project it belongs to and some of its open
+     * tasks (both null or empty for users that ended up without any).
+     */
+    record SeededUser(String id, String username, String projectId, List<String> openTaskIds) {
+    }
+
+    static Dataset seed(MongoTemplate mongoTemplate, PasswordEncoder encoder, int userCount, int projectCount,
+                        int membersPerProject, long taskCount) {
+        if (mongoTemplate.count(new Query(), Project.class) > 0 || mongoTemplate.count(new Query(), Task.class) > 0) {
+            throw new IllegalStateException("The database already holds projects or tasks; seed an empty database");
+        }
+        int leaderCount = Math.max(1, userCount / 20);
+        int memberCount = userCount - leaderCount;
+        if (memberCount < 1 || projectCount < 1 || membersPerProject < 1) {
+            throw new IllegalArgumentException("Need at least 2 users, 1 project and 1 member per project");
+        }
+        membersPerProject = Math.min(membersPerProject, memberCount);
+
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime now = LocalDateTime.now();
+        Role leaderRole = role(mongoTemplate, ERole.ROLE_LEADER);
+        Role memberRole = role(mongoTemplate, ERole.ROLE_MEMBER);
+        // One hash for everybody; hashing each password would dominate the seeding time
+        String passwordHash = encoder.encode(PASSWORD);
+
+        String[] userIds = new String[userCount];
+        UserSummary[] userSummaries = new UserSummary[userCount];
+        List<User> userBatch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setId(new ObjectId().toHexString());
+            user.setUsername((i < leaderCount ? "loadleader" : "loadmember") + i);
+            user.setEmail(user.getUsername() + "@loadtest.local");
+            user.setPassword(passwordHash);
+            user.setFullName("Load Test User " + i);
+            user.getRoles().add(i < leaderCount ? leaderRole : memberRole);
+            userIds[i] = user.getId();
+            userSummaries[i] = UserSummary.of(user);
+
+            userBatch.add(user);
+            if (userBatch.size() == BATCH_SIZE || i == userCount - 1) {
+                mongoTemplate.insert(userBatch, User.class);
+                userBatch.clear();
+            }
+        }
+
+        String[] userProjectIds = new String[userCount];
+        ProjectSummary[] projectSummaries = new ProjectSummary[projectCount];
+        List<Project> projectBatch = new ArrayList<>(BATCH_SIZE);
+        for (int p = 0; p < projectCount; p++) {
+            int leader = p % leaderCount;
+            Project project = new Project();
+            project.setId(new ObjectId().toHexString());
+            project.setName("Load test project " + p);
+            project.setDescription("Seeded by the load test");
+            project.setProblemStatement("Problem statement of project " + p);
+            project.setCreatedAt(now.minusMinutes(random.nextInt(525_600)));
+            project.setUpdatedAt(project.getCreatedAt());
+            project.setProblemStatementApproved(random.nextBoolean());
+            project.setLeaderId(userIds[leader]);
+            project.setLeader(userSummaries[leader]);
+            addMember(project, leader, userIds, userSummaries, userProjectIds);
+            for (int k = 0; k < membersPerProject; k++) {
+                addMember(project, member(p, k, leaderCount, memberCount, membersPerProject),
+                        userIds, userSummaries, userProjectIds);
+            }
+            projectSummaries[p] = ProjectSummary.of(project);
+
+            projectBatch.add(project);
+            if (projectBatch.size() == BATCH_SIZE || p == projectCount - 1) {
+                mongoTemplate.insert(projectBatch, Project.class);
+                projectBatch.clear();
+            }
+        }
+
+        List<List<String>> openTaskIds = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            openTaskIds.add(new ArrayList<>());
+        }
+        List<Task> taskBatch = new ArrayList<>(BATCH_SIZE);
+        for (long t = 0; t < taskCount; t++) {
+            int p = (int) (t % projectCount);
+            int assignee = member(p, (int) ((t / projectCount) % membersPerProject), leaderCount, memberCount,
+                    membersPerProject);
+            Task task = new Task();
+            task.setId(new ObjectId().toHexString());
+            task.setTitle("Task " + t);
+            task.setDescription("Seeded task " + t + " of project " + p);
+            task.setCreatedAt(now.minusMinutes(random.nextInt(525_600)));
+            task.setUpdatedAt(task.getCreatedAt());
+            task.setStartDate(task.getCreatedAt());
+            // Roughly one in six is overdue
+            task.setDueDate(now.plusDays(random.nextInt(-10, 50)));
+            task.setProjectId(projectSummaries[p].getId());
+            task.setProject(projectSummaries[p]);
+            task.setAssignedToId(userIds[assignee]);
+            task.setAssignedTo(userSummaries[assignee]);
+            setProgress(task, random.nextInt(100));
+            if (task.getStatus() != TaskStatus.COMPLETED && task.getStatus() != TaskStatus.UNDER_REVIEW
+                    && openTaskIds.get(assignee).size() < TASK_IDS_PER_USER) {
+                openTaskIds.get(assignee).add(task.getId());
+            }
+
+            taskBatch.add(task);
+            if (taskBatch.size() == BATCH_SIZE || t == taskCount - 1) {
+                mongoTemplate.insert(taskBatch, Task.class);
+                taskBatch.clear();
+            }
+        }
+
+        List<SeededUser> users = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            users.add(new SeededUser(userIds[i], userSummaries[i].getUsername(), userProjectIds[i],
+                    List.copyOf(openTaskIds.get(i))));
+        }
+        return new Dataset(users, projectCount, taskCount);
+    }
+
+    // Members of project p are consecutive non-leader users, wrapping around
+    private static int member(int p, int k, int leaderCount, int memberCount, int membersPerProject) {
+        return leaderCount + (int) (((long) p * membersPerProject + k) % memberCount);
+    }
+
+    private static void addMember(Project project, int user, String[] userIds, UserSummary[] userSummaries,
+                                  String[] userProjectIds) {
+        if (project.getMemberIds().add(userIds[user])) {
+            project.getMembers().add(userSummaries[user]);
+        }
+        if (userProjectIds[user] == null) {
+            userProjectIds[user] = project.getId();
+        }
+    }
+
+    // Half pending, a third in progress, the rest under review or completed
+    private static void setProgress(Task task, int roll) {
+        if (roll < 50) {
+            task.setStatus(TaskStatus.PENDING);
+        } else if (roll < 85) {
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setProgressPercentage(10 + (roll - 50) * 2);
+        } else if (roll < 90) {
+            task.setStatus(TaskStatus.UNDER_REVIEW);
+            task.setProgressPercentage(100);
+        } else {
+            task.setStatus(TaskStatus.COMPLETED);
+            task.setProgressPercentage(100);
+            task.setCompletedDate(task.getUpdatedAt());
+        }
+    }
+
+    private static Role role(MongoTemplate mongoTemplate, ERole name) {
+        Role role = mongoTemplate.findOne(query(where("name").is(name)), Role.class);
+        if (role == null) {
+            throw new IllegalStateException("Role " + name + " is missing; the backend creates it on startup");
+        }
+        return role;
+    }
+
+    // Users the workload can act as: they belong to a project and have open tasks
+    List<SeededUser> activeUsers() {
+        return users.stream()
+                .filter(user -> user.projectId() != null && !user.openTaskIds().isEmpty())
+                .toList();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.management.project.loadtest;
+
+import com.management.project.security.UserDetailsImpl;
+import com.management.project.security.jwt.JwtUtils;
+import org.HdrHistogram.Histogram;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the backend under a scripted workload. For each mode (Tomcat's platform worker
+ * pool or virtual threads) it starts the backend, bulk-seeds a synthetic dataset, lets
+ * concurrent clients act as seeded users running a weighted mix of login, dashboard, task list
+ * and progress update requests, and prints throughput and latency percentiles per endpoint.
+ *
+ * <pre>
+ * mvn -B -Pjava21 package -DskipTests
+ * java -jar loadtest/target/loadtest.jar --concurrency=800 --duration=60
+ * java -Xmx8g -jar loadtest/target/loadtest.jar --mongoUri=mongodb://localhost:27017/loadtest \
+ *     --users=100000 --projects=10000 --tasks=1000000
+ * </pre>
+ *
+ * Options (defaults in brackets): {@code --modes} platform,virtual [both on Java 21, else
+ * platform], {@code --concurrency} [400], {@code --warmup} and {@code --duration} in seconds
+ * [10, 30], {@code --users} [2000], {@code --projects} [200], {@code --membersPerProject}
+ * [10], {@code --tasks} [20000], {@code --mix} step weights
+ * [login:1,dashboard:2,myTasks:4,projectTasks:2,progress:1], {@code --mongoLatencyMs} per
+ * command [1], {@code --mongoUri} of a MongoDB to use instead of the in-memory stand-in [none],
+ * {@code --histograms} directory for .hgrm percentile files. Other {@code --key=value} options
+ * are passed to the backend, e.g. {@code --server.tomcat.threads.max=400}.
+ * <p>
+ * The stand-in scans whole collections for most queries, so volumes beyond a few tens of
+ * thousands of tasks need a real MongoDB. The database given by {@code --mongoUri} must hold no
+ * projects or tasks, and it is dropped after each mode.
+ */
+public class LoadTest {
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("modes", Runtime.version().feature() >= 21 ? "platform,virtual" : "platform");
+        DEFAULTS.put("concurrency", "400");
+        DEFAULTS.put("warmup", "10");
+        DEFAULTS.put("duration", "30");
+        DEFAULTS.put("users", "2000");
+        DEFAULTS.put("projects", "200");
+        DEFAULTS.put("membersPerProject", "10");
+        DEFAULTS.put("tasks", "20000");
+        DEFAULTS.put("mix", "login:1,dashboard:2,myTasks:4,projectTasks:2,progress:1");
+        DEFAULTS.put("mongoLatencyMs", "1");
+        DEFAULTS.put("mongoUri", "");
+        DEFAULTS.put("histograms", "");
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        List<String> backendArgs = new ArrayList<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            String key = arg.startsWith("--") && separator > 2 ? arg.substring(2, separator) : null;
+            if (key != null && options.containsKey(key)) {
+                options.put(key, arg.substring(separator + 1));
+            } else {
+                backendArgs.add(arg);
+            }
+        }
+
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("warmup")));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(options.get("duration")));
+        int users = Integer.parseInt(options.get("users"));
+        int projects = Integer.parseInt(options.get("projects"));
+        int membersPerProject = Integer.parseInt(options.get("membersPerProject"));
+        long tasks = Long.parseLong(options.get("tasks"));
+        Workload workload = Workload.parse(options.get("mix"));
+        long mongoLatencyNanos = (long) (Double.parseDouble(options.get("mongoLatencyMs")) * 1_000_000);
+        String mongoUri = options.get("mongoUri");
+        String histograms = options.get("histograms");
+
+        System.out.printf("Java %s, %d clients, %ds warm-up, %ds measured, %s ms per Mongo command, mix %s%n",
+                Runtime.version(), concurrency, TimeUnit.NANOSECONDS.toSeconds(warmupNanos),
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos), options.get("mongoLatencyMs"), workload);
+
+        Map<String, WorkloadRun.Result> results = new LinkedHashMap<>();
+        for (String mode : options.get("modes").split(",")) {
+            mode = mode.trim();
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("Unknown mode " + mode + ", expected platform or virtual");
+            }
+
+            try (BackendInstance backend = BackendInstance.start(mode.equals("virtual"), mongoLatencyNanos, mongoUri,
+                    backendArgs)) {
+                MongoTemplate mongoTemplate = backend.bean(MongoTemplate.class);
+                try {
+                    long seedStart = System.nanoTime();
+                    Dataset dataset = Dataset.seed(mongoTemplate, backend.bean(PasswordEncoder.class),
+                            users, projects, membersPerProject, tasks);
+                    List<Dataset.SeededUser> activeUsers = dataset.activeUsers();
+                    if (activeUsers.isEmpty()) {
+                        throw new IllegalStateException("No seeded user has open tasks; seed more tasks");
+                    }
+                    System.out.printf("%s: seeded %d users, %d projects and %d tasks in %.1fs, running...%n",
+                            mode, users, projects, tasks, (System.nanoTime() - seedStart) / 1e9);
+
+                    WorkloadRun.Result result = new WorkloadRun(new ApiClient(backend.baseUrl()), workload,
+                            activeUsers, tokens(backend.bean(JwtUtils.class), activeUsers), concurrency)
+                            .run(warmupNanos, durationNanos);
+                    results.put(mode, result);
+                    if (!histograms.isEmpty()) {
+                        writeHistograms(Path.of(histograms), mode, result);
+                    }
+                } finally {
+                    if (!mongoUri.isEmpty()) {
+                        mongoTemplate.getDb().drop();
+                    }
+                }
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-9s %-32s %10s %8s %10s %8s %8s %8s %8s %8s%n", "mode", "endpoint",
+                "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        results.forEach((mode, result) -> {
+            result.latencies().forEach((step, histogram) ->
+                    printRow(mode, step.endpoint, histogram, result.errors(step), result.throughput(histogram)));
+            Histogram total = result.total();
+            printRow(mode, "all", total, result.totalErrors(), result.throughput(total));
+        });
+    }
+
+    private static void printRow(String mode, String endpoint, Histogram latencies, long errors, double throughput) {
+        System.out.printf("%-9s %-32s %10d %8d %10.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                mode, endpoint, latencies.getTotalCount(), errors, throughput,
+                latencies.getValueAtPercentile(50) / 1e6, latencies.getValueAtPercentile(90) / 1e6,
+                latencies.getValueAtPercentile(99) / 1e6, latencies.getValueAtPercentile(99.9) / 1e6,
+                latencies.getMaxValue() / 1e6);
+    }
+
+    // Clients start signed in; minting the tokens directly skips one BCrypt check per user
+    private static List<String> tokens(JwtUtils jwtUtils, List<Dataset.SeededUser> users) {
+        List<String> tokens = new ArrayList<>(users.size());
+        for (Dataset.SeededUser user : users) {
+            UserDetailsImpl principal = new UserDetailsImpl(user.id(), user.username(), null, null, List.of());
+            tokens.add(jwtUtils.generateJwtToken(new UsernamePasswordAuthenticationToken(principal, null)));
+        }
+        return tokens;
+    }
+
+    // Percentile distributions in milliseconds, readable by the HdrHistogram plotter
+    private static void writeHistograms(Path directory, String mode, WorkloadRun.Result result) throws IOException {
+        Files.createDirectories(directory);
+        for (Map.Entry<Workload.Step, Histogram> entry : result.latencies().entrySet()) {
+            writeHistogram(directory.resolve(mode + "-" + entry.getKey().key + ".hgrm"), entry.getValue());
+        }
+        writeHistogram(directory.resolve(mode + ".hgrm"), result.total());
+    }
+
+    private static void writeHistogram(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+            histogram.outputPercentileDistribution(out, 1e6);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.management.project.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * The scripted mix of requests each client sends, as relative weights per step, e.g.
+ * {@code login:1,dashboard:2,myTasks:4,projectTasks:2,progress:1}.
+ */
+final class Workload {
+    enum Step {
+        LOGIN("login", "POST /auth/signin"),
+        DASHBOARD("dashboard", "GET /dashboard/summary"),
+        MY_TASKS("myTasks", "GET /tasks/my-tasks"),
+        PROJECT_TASKS("projectTasks", "GET /tasks/project/{id}"),
+        PROGRESS("progress", "PUT /tasks/{id}/update-progress");
+
+        final String key;
+        final String endpoint;
+
+        Step(String key, String endpoint) {
+            this.key = key;
+            this.endpoint = endpoint;
+        }
+    }
+
+    private final Map<Step, Integer> weights;
+    private final Step[] steps;
+    private final int[] cumulative;
+
+    private Workload(Map<Step, Integer> weights) {
+        this.weights = weights;
+        this.steps = weights.keySet().toArray(Step[]::new);
+        this.cumulative = new int[steps.length];
+        int total = 0;
+        for (int i = 0; i < steps.length; i++) {
+            total += weights.get(steps[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    static Workload parse(String mix) {
+        Map<Step, Integer> weights = new EnumMap<>(Step.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Step step = null;
+            for (Step candidate : Step.values()) {
+                if (candidate.key.equals(parts[0])) {
+                    step = candidate;
+                }
+            }
+            if (step == null || parts.length != 2) {
+                throw new IllegalArgumentException("Unknown workload step " + entry.trim()
+                        + ", expected name:weight with name one of login, dashboard, myTasks, projectTasks, progress");
+            }
+            int weight = Integer.parseInt(parts[1]);
+            if (weight > 0) {
+                weights.put(step, weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The workload mix has no step with a positive weight");
+        }
+        return new Workload(weights);
+    }
+
+    Step next(SplittableRandom random) {
+        int roll = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < steps.length; i++) {
+            if (roll < cumulative[i]) {
+                return steps[i];
+            }
+        }
+        return steps[steps.length - 1];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder mix = new StringBuilder();
+        weights.forEach((step, weight) -> mix.append(mix.isEmpty() ? "" : ",").append(step.key).append(':').append(weight));
+        return mix.toString();
+    }
+}
\ No newline at end of file
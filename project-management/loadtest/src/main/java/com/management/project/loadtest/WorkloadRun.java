@@ -0,0 +1,155 @@
+package com.management.project.loadtest;
+
+import com.management.project.loadtest.Dataset.SeededUser;
+import com.management.project.loadtest.Workload.Step;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop run: {@code concurrency} client threads each act as one seeded user and send the
+ * next step of the workload mix as soon as the previous one answers. Latencies are recorded
+ * per step; those of the warm-up period are discarded.
+ */
+final class WorkloadRun {
+    // Anything slower is recorded as this value
+    private static final long HIGHEST_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final ApiClient api;
+    private final Workload workload;
+    private final List<SeededUser> users;
+    private final List<String> tokens;
+    private final int concurrency;
+
+    /**
+     * @param tokens a signed-in token for each of {@code users}, replaced whenever a client
+     *               runs the login step
+     */
+    WorkloadRun(ApiClient api, Workload workload, List<SeededUser> users, List<String> tokens, int concurrency) {
+        this.api = api;
+        this.workload = workload;
+        this.users = users;
+        this.tokens = tokens;
+        this.concurrency = concurrency;
+    }
+
+    Result run(long warmupNanos, long durationNanos) throws Exception {
+        long measureFrom = System.nanoTime() + warmupNanos;
+        long end = measureFrom + durationNanos;
+
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        List<Future<Result>> workers = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                workers.add(clients.submit(() -> runWorker(worker, measureFrom, end, durationNanos)));
+            }
+
+            Result result = new Result(durationNanos);
+            for (Future<Result> worker : workers) {
+                result.add(worker.get());
+            }
+            return result;
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    private Result runWorker(int worker, long measureFrom, long end, long durationNanos) throws InterruptedException {
+        Result result = new Result(durationNanos);
+        SplittableRandom random = new SplittableRandom(worker);
+        SeededUser user = users.get(worker % users.size());
+        String token = tokens.get(worker % users.size());
+        String projectTasks = "/tasks/project/" + user.projectId();
+
+        long start;
+        while ((start = System.nanoTime()) < end) {
+            Step step = workload.next(random);
+            boolean ok;
+            try {
+                switch (step) {
+                    case LOGIN -> {
+                        token = api.signIn(user.username(), Dataset.PASSWORD);
+                        ok = true;
+                    }
+                    case DASHBOARD -> ok = api.get("/dashboard/summary", token) == 200;
+                    case MY_TASKS -> ok = api.get("/tasks/my-tasks", token) == 200;
+                    case PROJECT_TASKS -> ok = api.get(projectTasks, token) == 200;
+                    // Progress stays below 100 so the task never leaves the workable statuses
+                    case PROGRESS -> ok = api.put("/tasks/" + pick(user.openTaskIds(), random) + "/update-progress",
+                            token, new ProgressUpdate(1 + random.nextInt(99))) == 200;
+                    default -> throw new IllegalStateException("Unhandled step " + step);
+                }
+            } catch (IOException | IllegalStateException e) {
+                ok = false;
+            }
+
+            if (start >= measureFrom) {
+                result.record(step, System.nanoTime() - start, ok);
+            }
+        }
+        return result;
+    }
+
+    private static String pick(List<String> ids, SplittableRandom random) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private record ProgressUpdate(int progressPercentage) {
+    }
+
+    static final class Result {
+        private final Map<Step, Histogram> latencies = new EnumMap<>(Step.class);
+        private final Map<Step, Long> errors = new EnumMap<>(Step.class);
+        private final long durationNanos;
+
+        Result(long durationNanos) {
+            this.durationNanos = durationNanos;
+        }
+
+        void record(Step step, long latencyNanos, boolean ok) {
+            latencies.computeIfAbsent(step, s -> new Histogram(HIGHEST_LATENCY_NANOS, 3))
+                    .recordValue(Math.min(latencyNanos, HIGHEST_LATENCY_NANOS));
+            if (!ok) {
+                errors.merge(step, 1L, Long::sum);
+            }
+        }
+
+        void add(Result other) {
+            other.latencies.forEach((step, histogram) -> latencies
+                    .computeIfAbsent(step, s -> new Histogram(HIGHEST_LATENCY_NANOS, 3)).add(histogram));
+            other.errors.forEach((step, count) -> errors.merge(step, count, Long::sum));
+        }
+
+        Map<Step, Histogram> latencies() {
+            return latencies;
+        }
+
+        long errors(Step step) {
+            return errors.getOrDefault(step, 0L);
+        }
+
+        long totalErrors() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        Histogram total() {
+            Histogram total = new Histogram(HIGHEST_LATENCY_NANOS, 3);
+            latencies.values().forEach(total::add);
+            return total;
+        }
+
+        double throughput(Histogram histogram) {
+            return histogram.getTotalCount() / (durationNanos / 1e9);
+        }
+    }
+}
\ No newline at end of file
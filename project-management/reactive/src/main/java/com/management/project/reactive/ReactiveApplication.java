@@ -0,0 +1,24 @@
+package com.management.project.reactive;
+
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import com.management.project.security.jwt.JwtUtils;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux and reactive MongoDB variant of the {@code /api/tasks} and {@code /api/projects}
+ * API. It shares the models, JWT handling and queries with the servlet backend and accepts
+ * the tokens it issues; sign-in, users and notification streams stay on the backend, which
+ * also creates the indexes.
+ */
+@SpringBootApplication
+@EntityScan("com.management.project.models")
+@Import({JwtUtils.class, JwtAuthenticationCache.class})
+public class ReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveApplication.class, args);
+    }
+}
\ No newline at end of file
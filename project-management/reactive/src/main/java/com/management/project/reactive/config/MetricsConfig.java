@@ -0,0 +1,22 @@
+package com.management.project.reactive.config;
+
+import com.management.project.reactive.security.ReactiveProjectAccessService;
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Same cache meters as the backend's MetricsConfig
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(JwtAuthenticationCache authenticationCache,
+                                    ReactiveProjectAccessService projectAccessService) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, authenticationCache.getCache(), "jwtAuthentication");
+            CaffeineCacheMetrics.monitor(registry, projectAccessService.getCache(), "projectAccess");
+        };
+    }
+}
\ No newline at end of file
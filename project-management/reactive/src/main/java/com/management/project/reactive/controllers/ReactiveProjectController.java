@@ -0,0 +1,376 @@
+package com.management.project.reactive.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.controllers.PagedResponses;
+import com.management.project.models.Project;
+import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.MemberChangeRequest;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.MemberChangeResponse;
+import com.management.project.payload.response.MessageResponse;
+import com.management.project.reactive.repositories.ReactiveProjectRepository;
+import com.management.project.reactive.repositories.ReactiveUserRepository;
+import com.management.project.reactive.security.ReactiveProjectAccessService;
+import com.management.project.reactive.services.ReactiveNotificationPublisher;
+import com.management.project.reactive.services.ReactiveProjectStatsService;
+import com.management.project.reactive.services.ReactiveSummarySyncService;
+import com.management.project.security.ProjectAccessService.ProjectAccess;
+import com.management.project.security.UserDetailsImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/projects")
+public class ReactiveProjectController {
+    @Autowired
+    private ReactiveProjectRepository projectRepository;
+    
+    @Autowired
+    private ReactiveProjectStatsService projectStatsService;
+    
+    @Autowired
+    private ReactiveUserRepository userRepository;
+    
+    @Autowired
+    private ReactiveProjectAccessService projectAccessService;
+    
+    @Autowired
+    private ReactiveNotificationPublisher notificationPublisher;
+    
+    @Autowired
+    private ReactiveSummarySyncService summarySyncService;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Get all projects for the current user (leader or member)
+    @GetMapping
+    public Mono<ResponseEntity<?>> getAllProjects(@AuthenticationPrincipal UserDetailsImpl user,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer limit,
+                                                  @RequestParam(required = false) String sort,
+                                                  @RequestParam(required = false) String fields) {
+        return Mono.fromCallable(() -> PageQuery.of(cursor, limit, sort, fields))
+                .flatMap(pageQuery -> projectRepository.findPageForUser(user.getId(), pageQuery)
+                        .<ResponseEntity<?>>map(page -> PagedResponses.of(page, pageQuery, objectMapper)))
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest("Error: " + e.getMessage()));
+    }
+    
+    // Get a project by id
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> getProjectById(@PathVariable String id) {
+        return findProject(id).map(ResponseEntity::ok);
+    }
+    
+    // Task counts per status, overdue tasks, average progress and open tasks per member for a project
+    @GetMapping("/{id}/stats")
+    public Mono<ResponseEntity<?>> getProjectStats(@AuthenticationPrincipal UserDetailsImpl user,
+                                                   @PathVariable String id) {
+        return findAccess(id)
+                .flatMap(access -> {
+                    // Check if user is a member or leader of the project
+                    if (!access.isMember(user.getId()) && !access.isLeader(user.getId())) {
+                        return badRequest("Error: You are not a member of this project.");
+                    }
+                    return projectStatsService.getStats(id).map(ResponseEntity::ok);
+                });
+    }
+    
+    // Create a new project (only for leaders)
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> createProject(@AuthenticationPrincipal UserDetailsImpl principal,
+                                                 @RequestBody Project projectRequest) {
+        return userRepository.findProfileById(principal.getId())
+                .switchIfEmpty(notFound("User"))
+                .flatMap(leader -> {
+                    Project project = new Project();
+                    project.setName(projectRequest.getName());
+                    project.setDescription(projectRequest.getDescription());
+                    project.setProblemStatement(projectRequest.getProblemStatement());
+                    project.setLeaderId(leader.getId());
+                    project.setLeader(UserSummary.of(leader));
+                    project.setCreatedAt(LocalDateTime.now());
+                    project.setUpdatedAt(LocalDateTime.now());
+                    project.setProblemStatementApproved(false);
+                    project.getMemberIds().add(leader.getId());
+                    project.getMembers().add(UserSummary.of(leader));
+        
+                    return projectRepository.save(project);
+                })
+                .map(ResponseEntity::ok);
+    }
+    
+    // Update a project (only for leaders)
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> updateProject(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                 @PathVariable String id, @RequestBody Project projectRequest) {
+        return findAccess(id)
+                .flatMap(access -> {
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    // A $set rather than a save, which would write back members and revisions as read
+                    return projectRepository.updateDetails(id, projectRequest.getName(), projectRequest.getDescription(),
+                                    projectRequest.getProblemStatement(), LocalDateTime.now())
+                            .switchIfEmpty(notFound("Project"))
+                            .flatMap(updated -> summarySyncService.refreshProjectSummaries(updated)
+                                    .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(updated)));
+                });
+    }
+    
+    // Approve problem statement (only for leaders)
+    @PutMapping("/{id}/approve-problem-statement")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> approveProblemStatement(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                           @PathVariable String id) {
+        return findAccess(id)
+                .flatMap(access -> {
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    return projectRepository.approveProblemStatement(id, LocalDateTime.now())
+                            .switchIfEmpty(notFound("Project"))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(
+                                    new MessageResponse("Problem statement approved successfully!")));
+                });
+    }
+    
+    // Add a member to a project (only for leaders)
+    @PostMapping("/{id}/members/{userId}")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> addMemberToProject(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                      @PathVariable String id, @PathVariable String userId) {
+        return findAccess(id)
+                .zipWith(userRepository.findProfileById(userId).switchIfEmpty(notFound("User")))
+                .flatMap(loaded -> {
+                    ProjectAccess access = loaded.getT1();
+                    User user = loaded.getT2();
+        
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    if (access.isMember(user.getId())) {
+                        return badRequest("Error: User is already a member of this project.");
+                    }
+        
+                    return addMembers(id, leader, List.of(user))
+                            .flatMap(added -> added
+                                    ? Mono.just(ResponseEntity.ok(new MessageResponse("User added to project successfully!")))
+                                    : membersConflict());
+                });
+    }
+    
+    // Add several members to a project in one update (only for leaders)
+    @PostMapping("/{id}/members")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> addMembersToProject(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                       @PathVariable String id, @RequestBody List<String> userIds) {
+        Set<String> requested = new LinkedHashSet<>(userIds);
+        return findAccess(id)
+                .flatMap(access -> {
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    // Look all users up in one query and sort every requested id into one outcome
+                    return userRepository.findProfilesByIdIn(requested)
+                            .collectMap(User::getId)
+                            .flatMap(users -> {
+                                MemberChangeResponse response = new MemberChangeResponse();
+                                List<User> toAdd = new ArrayList<>();
+                                for (String userId : requested) {
+                                    if (!users.containsKey(userId)) {
+                                        response.getNotFound().add(userId);
+                                    } else if (access.isMember(userId)) {
+                                        response.getAlreadyMembers().add(userId);
+                                    } else {
+                                        response.getAdded().add(userId);
+                                        toAdd.add(users.get(userId));
+                                    }
+                                }
+        
+                                return addMembers(id, leader, toAdd)
+                                        .flatMap(added -> added ? Mono.just(ResponseEntity.ok(response)) : membersConflict());
+                            });
+                });
+    }
+    
+    // Add and remove several members of a project in one update (only for leaders)
+    @PatchMapping("/{id}/members")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> changeProjectMembers(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                        @PathVariable String id,
+                                                        @RequestBody MemberChangeRequest request) {
+        Set<String> toAdd = new LinkedHashSet<>(request.getAdd());
+        Set<String> toRemove = new LinkedHashSet<>(request.getRemove());
+        return findProject(id)
+                .flatMap(project -> {
+                    // Check if the current user is the leader of this project
+                    if (!leader.getId().equals(project.getLeaderId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    if (toRemove.contains(leader.getId())) {
+                        return badRequest("Error: Leader cannot be removed from project.");
+                    }
+                    if (toAdd.stream().anyMatch(toRemove::contains)) {
+                        return badRequest("Error: A user cannot be both added and removed.");
+                    }
+        
+                    // Look all added users up in one query and sort every requested id into one outcome
+                    return userRepository.findProfilesByIdIn(toAdd)
+                            .collectMap(User::getId)
+                            .flatMap(users -> {
+                                MemberChangeResponse response = new MemberChangeResponse();
+                                Set<String> memberIds = new LinkedHashSet<>(project.getMemberIds());
+                                Set<UserSummary> members = new LinkedHashSet<>(project.getMembers());
+                                for (String userId : toRemove) {
+                                    if (memberIds.remove(userId)) {
+                                        response.getRemoved().add(userId);
+                                    } else {
+                                        response.getNotMembers().add(userId);
+                                    }
+                                }
+                                members.removeIf(member -> response.getRemoved().contains(member.getId()));
+                                for (String userId : toAdd) {
+                                    if (!users.containsKey(userId)) {
+                                        response.getNotFound().add(userId);
+                                    } else if (memberIds.contains(userId)) {
+                                        response.getAlreadyMembers().add(userId);
+                                    } else {
+                                        response.getAdded().add(userId);
+                                        memberIds.add(userId);
+                                        members.add(UserSummary.of(users.get(userId)));
+                                    }
+                                }
+        
+                                if (response.getAdded().isEmpty() && response.getRemoved().isEmpty()) {
+                                    return Mono.just(ResponseEntity.ok(response));
+                                }
+        
+                                return projectRepository.changeMembers(id, leader.getId(), project.getRevision(),
+                                                memberIds, members, LocalDateTime.now())
+                                        .doOnNext(changed -> projectAccessService.evict(id))
+                                        .flatMap(changed -> {
+                                            if (!changed) {
+                                                return membersConflict();
+                                            }
+                                            if (!response.getAdded().isEmpty()) {
+                                                notificationPublisher.addedToProject(id, response.getAdded());
+                                            }
+                                            response.getRemoved().forEach(userId ->
+                                                    notificationPublisher.removedFromProject(id, userId));
+                                            return Mono.just(ResponseEntity.ok(response));
+                                        });
+                            });
+                });
+    }
+    
+    // Remove a member from a project (only for leaders)
+    @DeleteMapping("/{id}/members/{userId}")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> removeMemberFromProject(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                           @PathVariable String id, @PathVariable String userId) {
+        return findAccess(id)
+                .zipWith(userRepository.findProfileById(userId).switchIfEmpty(notFound("User")))
+                .flatMap(loaded -> {
+                    ProjectAccess access = loaded.getT1();
+                    User user = loaded.getT2();
+        
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    // Check if the user is the leader (leader cannot be removed)
+                    if (user.getId().equals(leader.getId())) {
+                        return badRequest("Error: Leader cannot be removed from project.");
+                    }
+        
+                    return projectRepository.removeMember(id, leader.getId(), user.getId(), LocalDateTime.now())
+                            .doOnNext(removed -> projectAccessService.evict(id))
+                            .flatMap(removed -> {
+                                if (!removed) {
+                                    return badRequest("Error: User is not a member of this project.");
+                                }
+                                notificationPublisher.removedFromProject(id, user.getId());
+                                return Mono.just(ResponseEntity.ok(
+                                        new MessageResponse("User removed from project successfully!")));
+                            });
+                });
+    }
+    
+    // Delete a project (only for leaders)
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> deleteProject(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                 @PathVariable String id) {
+        return findProject(id)
+                .flatMap(project -> {
+                    // Check if the current user is the leader of this project
+                    if (!ProjectAccess.of(project).isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    // Delete the project
+                    return projectRepository.delete(project)
+                            .doOnSuccess(done -> projectAccessService.evict(id))
+                            .then(projectStatsService.delete(id))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(
+                                    new MessageResponse("Project deleted successfully!")));
+                });
+    }
+    
+    private Mono<Project> findProject(String id) {
+        return projectRepository.findById(id).switchIfEmpty(notFound("Project"));
+    }
+    
+    private Mono<ProjectAccess> findAccess(String id) {
+        return projectAccessService.find(id).switchIfEmpty(notFound("Project"));
+    }
+    
+    private Mono<Boolean> addMembers(String projectId, UserDetailsImpl leader, List<User> users) {
+        List<UserSummary> members = users.stream().map(UserSummary::of).toList();
+        return projectRepository.addMembers(projectId, leader.getId(), members, LocalDateTime.now())
+                .doOnNext(added -> {
+                    projectAccessService.evict(projectId);
+                    if (added && !users.isEmpty()) {
+                        notificationPublisher.addedToProject(projectId, users.stream().map(User::getId).toList());
+                    }
+                });
+    }
+    
+    private static Mono<ResponseEntity<?>> membersConflict() {
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new MessageResponse("Error: Project members were changed by someone else. Please reload and try again.")));
+    }
+    
+    private static Mono<ResponseEntity<?>> badRequest(String message) {
+        return Mono.just(ResponseEntity.badRequest().body(new MessageResponse(message)));
+    }
+    
+    private static <T> Mono<T> notFound(String entity) {
+        return Mono.error(() -> new RuntimeException("Error: " + entity + " not found."));
+    }
+}
\ No newline at end of file
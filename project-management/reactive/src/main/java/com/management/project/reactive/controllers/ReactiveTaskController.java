@@ -0,0 +1,342 @@
+package com.management.project.reactive.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.management.project.controllers.PagedResponses;
+import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.User;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.MessageResponse;
+import com.management.project.reactive.repositories.ReactiveProjectRepository;
+import com.management.project.reactive.repositories.ReactiveTaskRepository;
+import com.management.project.reactive.repositories.ReactiveUserRepository;
+import com.management.project.reactive.security.ReactiveProjectAccessService;
+import com.management.project.reactive.services.ReactiveNotificationPublisher;
+import com.management.project.reactive.services.ReactiveProjectStatsService;
+import com.management.project.security.ProjectAccessService.ProjectAccess;
+import com.management.project.security.UserDetailsImpl;
+import com.management.project.services.ProjectStatsService.TaskState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+    
+    @Autowired
+    private ReactiveProjectRepository projectRepository;
+    
+    @Autowired
+    private ReactiveUserRepository userRepository;
+    
+    @Autowired
+    private ReactiveProjectAccessService projectAccessService;
+    
+    @Autowired
+    private ReactiveProjectStatsService projectStatsService;
+    
+    @Autowired
+    private ReactiveNotificationPublisher notificationPublisher;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    // Get all tasks for the current user (assigned to them)
+    @GetMapping("/my-tasks")
+    public Mono<ResponseEntity<?>> getMyTasks(@AuthenticationPrincipal UserDetailsImpl user,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer limit,
+                                              @RequestParam(required = false) String sort,
+                                              @RequestParam(required = false) String fields) {
+        return Mono.fromCallable(() -> PageQuery.of(cursor, limit, sort, fields))
+                .flatMap(pageQuery -> taskRepository.findPageByAssignedToId(user.getId(), pageQuery)
+                        .<ResponseEntity<?>>map(page -> PagedResponses.of(page, pageQuery, objectMapper)))
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest("Error: " + e.getMessage()));
+    }
+    
+    // Get all tasks for a specific project
+    @GetMapping("/project/{projectId}")
+    public Mono<ResponseEntity<?>> getTasksByProject(@AuthenticationPrincipal UserDetailsImpl user,
+                                                     @PathVariable String projectId,
+                                                     @RequestParam(required = false) String cursor,
+                                                     @RequestParam(required = false) Integer limit,
+                                                     @RequestParam(required = false) String sort,
+                                                     @RequestParam(required = false) String fields) {
+        return projectAccessService.find(projectId)
+                .switchIfEmpty(notFound("Project"))
+                .flatMap(access -> {
+                    // Check if user is a member or leader of the project
+                    if (!access.isMember(user.getId()) && !access.isLeader(user.getId())) {
+                        return badRequest("Error: You are not a member of this project.");
+                    }
+        
+                    PageQuery pageQuery = PageQuery.of(cursor, limit, sort, fields);
+                    return taskRepository.findPageByProjectId(projectId, pageQuery)
+                            .<ResponseEntity<?>>map(page -> PagedResponses.of(page, pageQuery, objectMapper));
+                })
+                .onErrorResume(IllegalArgumentException.class, e -> badRequest("Error: " + e.getMessage()));
+    }
+    
+    // Create a new task (only for leaders)
+    @PostMapping
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> createTask(@AuthenticationPrincipal UserDetailsImpl leader,
+                                              @RequestBody Task taskRequest) {
+        return projectRepository.findById(taskRequest.getProject().getId())
+                .switchIfEmpty(notFound("Project"))
+                .flatMap(project -> {
+                    ProjectAccess access = ProjectAccess.of(project);
+        
+                    // Check if the current user is the leader of this project
+                    if (!access.isLeader(leader.getId())) {
+                        return badRequest("Error: You are not the leader of this project.");
+                    }
+        
+                    // Validate assignee
+                    if (taskRequest.getAssignedTo() == null || taskRequest.getAssignedTo().getId() == null) {
+                        return saveTask(taskRequest, project, null);
+                    }
+                    return userRepository.findProfileById(taskRequest.getAssignedTo().getId())
+                            .switchIfEmpty(notFound("Assigned user"))
+                            .flatMap(assignee -> {
+                                // Check if assignee is a member of the project
+                                if (!access.isMember(assignee.getId())) {
+                                    return badRequest("Error: Assigned user is not a member of this project.");
+                                }
+                                return saveTask(taskRequest, project, assignee);
+                            });
+                });
+    }
+    
+    private Mono<ResponseEntity<?>> saveTask(Task taskRequest, Project project, User assignee) {
+        Task task = new Task();
+        task.setTitle(taskRequest.getTitle());
+        task.setDescription(taskRequest.getDescription());
+        task.setStatus(TaskStatus.PENDING);
+        task.setStartDate(taskRequest.getStartDate());
+        task.setDueDate(taskRequest.getDueDate());
+        task.setProjectId(project.getId());
+        task.setProject(ProjectSummary.of(project));
+        task.setAssignedToId(assignee != null ? assignee.getId() : null);
+        task.setAssignedTo(UserSummary.of(assignee));
+        task.setProgressPercentage(0);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(task.getCreatedAt());
+        
+        return taskRepository.save(task)
+                .flatMap(savedTask -> projectStatsService.taskCreated(savedTask)
+                        .then(projectRepository.incrementTasksRevision(List.of(savedTask.getProjectId())))
+                        .doOnSuccess(done -> {
+                            if (assignee != null) {
+                                notificationPublisher.taskAssigned(savedTask);
+                            }
+                        })
+                        .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(savedTask)));
+    }
+    
+    // Update a task status and progress (for members - their assigned tasks)
+    @PutMapping("/{id}/update-progress")
+    public Mono<ResponseEntity<?>> updateTaskProgress(@AuthenticationPrincipal UserDetailsImpl user,
+                                                      @PathVariable String id, @RequestBody Task taskRequest) {
+        // Update progress percentage (0-100)
+        int progressPercentage = taskRequest.getProgressPercentage();
+        if (progressPercentage < 0 || progressPercentage > 100) {
+            return badRequest("Error: Progress percentage must be between 0 and 100.");
+        }
+        
+        // Update status based on progress
+        TaskStatus status;
+        if (progressPercentage == 0) {
+            status = TaskStatus.PENDING;
+        } else if (progressPercentage < 100) {
+            status = TaskStatus.IN_PROGRESS;
+        } else {
+            // If 100%, move to UNDER_REVIEW for leader approval
+            status = TaskStatus.UNDER_REVIEW;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.updateProgress(id, user.getId(), progressPercentage, status, now)
+                .flatMap(task -> {
+                    TaskState before = TaskState.of(task);
+                    task.setProgressPercentage(progressPercentage);
+                    task.setStatus(status);
+                    task.setUpdatedAt(now);
+                    task.setVersion(nextVersion(task));
+                    return projectStatsService.taskChanged(task.getProjectId(), before, task)
+                            .then(projectRepository.incrementTasksRevision(List.of(task.getProjectId())))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(task));
+                })
+                .switchIfEmpty(Mono.defer(() -> findTask(id)
+                        .flatMap(current -> projectAccessService.isLeader(current.getProjectId(), user.getId())
+                                .map(isLeader -> {
+                                    // Check if the current user is assigned to this task or is the project leader
+                                    if (!isAssignee(current, user) && !isLeader) {
+                                        return ResponseEntity.badRequest()
+                                                .body(new MessageResponse("Error: You are not assigned to this task."));
+                                    }
+                                    return transitionConflict(current, TaskStatus.WORKABLE);
+                                }))));
+    }
+    
+    // Submit a task for review (for members)
+    @PutMapping("/{id}/submit")
+    public Mono<ResponseEntity<?>> submitTask(@AuthenticationPrincipal UserDetailsImpl user, @PathVariable String id) {
+        // Set progress to 100% and change status to UNDER_REVIEW
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.submit(id, user.getId(), now)
+                .flatMap(task -> {
+                    TaskState before = TaskState.of(task);
+                    task.setProgressPercentage(100);
+                    task.setStatus(TaskStatus.UNDER_REVIEW);
+                    task.setUpdatedAt(now);
+                    return projectStatsService.taskChanged(task.getProjectId(), before, task)
+                            .then(projectRepository.incrementTasksRevision(List.of(task.getProjectId())))
+                            .doOnSuccess(done -> notificationPublisher.taskSubmitted(task))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(
+                                    new MessageResponse("Task submitted for review successfully!")));
+                })
+                .switchIfEmpty(Mono.defer(() -> findTask(id)
+                        .map(current -> {
+                            // Check if the current user is assigned to this task
+                            if (!isAssignee(current, user)) {
+                                return ResponseEntity.badRequest()
+                                        .body(new MessageResponse("Error: You are not assigned to this task."));
+                            }
+                            return transitionConflict(current, TaskStatus.WORKABLE);
+                        })));
+    }
+    
+    // Approve or reject a task (only for leaders)
+    @PutMapping("/{id}/review")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> reviewTask(@AuthenticationPrincipal UserDetailsImpl leader,
+                                              @PathVariable String id, @RequestParam boolean approved) {
+        // Update task status based on approval
+        LocalDateTime now = LocalDateTime.now();
+        return taskRepository.review(id, leader.getId(), approved, now)
+                .flatMap(task -> {
+                    TaskState before = TaskState.of(task);
+                    if (approved) {
+                        task.setStatus(TaskStatus.COMPLETED);
+                        task.setCompletedDate(now);
+                    } else {
+                        task.setStatus(TaskStatus.REJECTED);
+                        task.setProgressPercentage(75);
+                    }
+                    task.setUpdatedAt(now);
+        
+                    String message = approved ? "Task approved successfully!" : "Task rejected. Sent back for improvements.";
+                    return projectStatsService.taskChanged(task.getProjectId(), before, task)
+                            .then(projectRepository.incrementTasksRevision(List.of(task.getProjectId())))
+                            .doOnSuccess(done -> notificationPublisher.taskReviewed(task, approved))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(new MessageResponse(message)));
+                })
+                .switchIfEmpty(Mono.defer(() -> findTask(id)
+                        .flatMap(current -> projectAccessService.isLeader(current.getProjectId(), leader.getId())
+                                .map(isLeader -> {
+                                    // Check if the current user is the leader of this project
+                                    if (!isLeader) {
+                                        return ResponseEntity.badRequest()
+                                                .body(new MessageResponse("Error: You are not the leader of this project."));
+                                    }
+                                    return transitionConflict(current, Set.of(TaskStatus.UNDER_REVIEW));
+                                }))));
+    }
+    
+    // Reassign a task to another member (only for leaders)
+    @PutMapping("/{id}/reassign/{userId}")
+    @PreAuthorize("hasRole('ROLE_LEADER')")
+    public Mono<ResponseEntity<?>> reassignTask(@AuthenticationPrincipal UserDetailsImpl leader,
+                                                @PathVariable String id, @PathVariable String userId) {
+        return findTask(id)
+                .zipWith(userRepository.findProfileById(userId).switchIfEmpty(notFound("User")))
+                .flatMap(loaded -> {
+                    Task task = loaded.getT1();
+                    User assignee = loaded.getT2();
+                    return projectAccessService.find(task.getProjectId())
+                            .map(access -> {
+                                // Check if the current user is the leader of this project
+                                if (!access.isLeader(leader.getId())) {
+                                    return "Error: You are not the leader of this project.";
+                                }
+                                // Check if new assignee is a member of the project
+                                if (!access.isMember(assignee.getId())) {
+                                    return "Error: Assigned user is not a member of this project.";
+                                }
+                                return "";
+                            })
+                            .defaultIfEmpty("Error: You are not the leader of this project.")
+                            .flatMap(error -> error.isEmpty() ? reassign(task, assignee) : badRequest(error));
+                });
+    }
+    
+    private Mono<ResponseEntity<?>> reassign(Task task, User assignee) {
+        if (task.getStatus() == TaskStatus.COMPLETED) {
+            return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new MessageResponse("Error: Completed tasks cannot be reassigned.")));
+        }
+        
+        // If task was rejected, change status back to IN_PROGRESS
+        TaskStatus status = task.getStatus() == TaskStatus.REJECTED ? TaskStatus.IN_PROGRESS : task.getStatus();
+        
+        return taskRepository.reassign(task.getId(), task.getVersion(), UserSummary.of(assignee), status,
+                        LocalDateTime.now())
+                .flatMap(previous -> {
+                    TaskState before = TaskState.of(previous);
+                    previous.setAssignedToId(assignee.getId());
+                    previous.setAssignedTo(UserSummary.of(assignee));
+                    previous.setStatus(status);
+                    return projectStatsService.taskChanged(previous.getProjectId(), before, previous)
+                            .then(projectRepository.incrementTasksRevision(List.of(previous.getProjectId())))
+                            .doOnSuccess(done -> notificationPublisher.taskAssigned(previous))
+                            .<ResponseEntity<?>>thenReturn(ResponseEntity.ok(
+                                    new MessageResponse("Task reassigned successfully!")));
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(new MessageResponse("Error: Task was changed by someone else. Please reload and try again."))));
+    }
+    
+    private Mono<Task> findTask(String id) {
+        return taskRepository.findById(id).switchIfEmpty(notFound("Task"));
+    }
+    
+    private static boolean isAssignee(Task task, UserDetailsImpl user) {
+        return task.getAssignedToId() != null && task.getAssignedToId().equals(user.getId());
+    }
+    
+    private static Long nextVersion(Task task) {
+        return task.getVersion() != null ? task.getVersion() + 1 : 1L;
+    }
+    
+    private static Mono<ResponseEntity<?>> badRequest(String message) {
+        return Mono.just(ResponseEntity.badRequest().body(new MessageResponse(message)));
+    }
+    
+    private static <T> Mono<T> notFound(String entity) {
+        return Mono.error(() -> new RuntimeException("Error: " + entity + " not found."));
+    }
+    
+    // A transition matched nothing although the caller may perform it: either the task is not in
+    // a status the transition starts from, or it changed between the update and this read
+    private static ResponseEntity<?> transitionConflict(Task current, Set<TaskStatus> allowedFrom) {
+        String message = allowedFrom.contains(current.getStatus())
+                ? "Error: Task was changed by someone else. Please reload and try again."
+                : "Error: This action is not allowed while the task is " + current.getStatus() + ".";
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(new MessageResponse(message));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.repositories.KeysetPager;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import reactor.core.publisher.Mono;
+
+// Same queries and cursors as the backend's KeysetPager; an invalid page is an error signal
+final class ReactiveKeysetPager {
+    private ReactiveKeysetPager() {
+    }
+
+    static <T> Mono<CursorPage<T>> find(ReactiveMongoTemplate mongoTemplate, Criteria filter, PageQuery page,
+                                        Class<T> type) {
+        return Mono.defer(() -> mongoTemplate.find(KeysetPager.query(mongoTemplate.getConverter(), filter, page, type), type)
+                .collectList()
+                .map(items -> KeysetPager.page(items, page)));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.Project;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveProjectRepository extends ReactiveMongoRepository<Project, String>, ReactiveProjectRepositoryCustom {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.Project;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface ReactiveProjectRepositoryCustom {
+    Mono<CursorPage<Project>> findPageForUser(String userId, PageQuery page);
+
+    // Atomic membership changes, as in ProjectRepositoryCustom; false when no project matched
+    Mono<Boolean> addMembers(String projectId, String leaderId, Collection<UserSummary> members, LocalDateTime updatedAt);
+    Mono<Boolean> removeMember(String projectId, String leaderId, String userId, LocalDateTime updatedAt);
+    Mono<Boolean> changeMembers(String projectId, String leaderId, long revision, Collection<String> memberIds,
+                                Collection<UserSummary> members, LocalDateTime updatedAt);
+
+    // Field updates that also bump the revision, as in ProjectRepositoryCustom; empty when the project is missing
+    Mono<Project> updateDetails(String projectId, String name, String description, String problemStatement,
+                                LocalDateTime updatedAt);
+    Mono<Project> approveProblemStatement(String projectId, LocalDateTime updatedAt);
+    Mono<Void> incrementTasksRevision(Collection<String> projectIds);
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.Project;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.repositories.ConditionalUpdate;
+import com.management.project.repositories.ProjectQueries;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveProjectRepositoryCustomImpl implements ReactiveProjectRepositoryCustom {
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<CursorPage<Project>> findPageForUser(String userId, PageQuery page) {
+        return ReactiveKeysetPager.find(mongoTemplate, ProjectQueries.leaderOrMember(userId), page, Project.class);
+    }
+
+    @Override
+    public Mono<Boolean> addMembers(String projectId, String leaderId, Collection<UserSummary> members,
+                                    LocalDateTime updatedAt) {
+        if (members.isEmpty()) {
+            return Mono.just(true);
+        }
+        return apply(ProjectQueries.addMembers(projectId, leaderId, members, updatedAt));
+    }
+
+    @Override
+    public Mono<Boolean> removeMember(String projectId, String leaderId, String userId, LocalDateTime updatedAt) {
+        return apply(ProjectQueries.removeMember(projectId, leaderId, userId, updatedAt));
+    }
+
+    @Override
+    public Mono<Boolean> changeMembers(String projectId, String leaderId, long revision, Collection<String> memberIds,
+                                       Collection<UserSummary> members, LocalDateTime updatedAt) {
+        return apply(ProjectQueries.changeMembers(projectId, leaderId, revision, memberIds, members, updatedAt));
+    }
+
+    @Override
+    public Mono<Project> updateDetails(String projectId, String name, String description, String problemStatement,
+                                       LocalDateTime updatedAt) {
+        return modify(projectId, ProjectQueries.updateDetails(name, description, problemStatement, updatedAt));
+    }
+
+    @Override
+    public Mono<Project> approveProblemStatement(String projectId, LocalDateTime updatedAt) {
+        return modify(projectId, ProjectQueries.approveProblemStatement(updatedAt));
+    }
+
+    private Mono<Project> modify(String projectId, Update update) {
+        return mongoTemplate.findAndModify(query(where("id").is(projectId)), update,
+                FindAndModifyOptions.options().returnNew(true), Project.class);
+    }
+
+    @Override
+    public Mono<Void> incrementTasksRevision(Collection<String> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return mongoTemplate.updateMulti(query(where("id").in(projectIds)), new Update().inc("tasksRevision", 1),
+                Project.class).then();
+    }
+
+    private Mono<Boolean> apply(ConditionalUpdate change) {
+        return mongoTemplate.updateFirst(change.query(), change.update(), Project.class)
+                .map(result -> result.getMatchedCount() > 0);
+    }
+}
\ No newline at end of file
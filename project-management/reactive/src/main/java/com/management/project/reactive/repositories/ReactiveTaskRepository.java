@@ -0,0 +1,9 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.Task;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ReactiveTaskRepository extends ReactiveMongoRepository<Task, String>, ReactiveTaskRepositoryCustom {
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface ReactiveTaskRepositoryCustom {
+    Mono<CursorPage<Task>> findPageByProjectId(String projectId, PageQuery page);
+    Mono<CursorPage<Task>> findPageByAssignedToId(String assignedToId, PageQuery page);
+    Mono<ProjectStats> computeProjectStats(String projectId);
+    Mono<Long> countOverdueByProjectId(String projectId);
+
+    // Conditional state transitions, as in TaskRepositoryCustom. Each one emits the task as it
+    // was before the update, or completes empty if nothing matched.
+    Mono<Task> updateProgress(String taskId, String userId, int progressPercentage, TaskStatus status,
+                              LocalDateTime updatedAt);
+    Mono<Task> submit(String taskId, String assigneeId, LocalDateTime updatedAt);
+    Mono<Task> review(String taskId, String leaderId, boolean approved, LocalDateTime updatedAt);
+    Mono<Task> reassign(String taskId, Long version, UserSummary assignee, TaskStatus status, LocalDateTime updatedAt);
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.models.TaskStatus;
+import com.management.project.models.UserSummary;
+import com.management.project.payload.request.PageQuery;
+import com.management.project.payload.response.CursorPage;
+import com.management.project.repositories.ConditionalUpdate;
+import com.management.project.repositories.TaskQueries;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class ReactiveTaskRepositoryCustomImpl implements ReactiveTaskRepositoryCustom {
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Override
+    public Mono<CursorPage<Task>> findPageByProjectId(String projectId, PageQuery page) {
+        return ReactiveKeysetPager.find(mongoTemplate, where("projectId").is(projectId), page, Task.class);
+    }
+
+    @Override
+    public Mono<CursorPage<Task>> findPageByAssignedToId(String assignedToId, PageQuery page) {
+        return ReactiveKeysetPager.find(mongoTemplate, where("assignedToId").is(assignedToId), page, Task.class);
+    }
+
+    @Override
+    public Mono<ProjectStats> computeProjectStats(String projectId) {
+        return mongoTemplate.aggregate(TaskQueries.projectStats(projectId), Document.class)
+                .next()
+                .map(result -> TaskQueries.readProjectStats(projectId, result))
+                .defaultIfEmpty(TaskQueries.readProjectStats(projectId, null));
+    }
+
+    @Override
+    public Mono<Long> countOverdueByProjectId(String projectId) {
+        return mongoTemplate.count(query(where("projectId").is(projectId).andOperator(TaskQueries.overdue())),
+                Task.class);
+    }
+
+    @Override
+    public Mono<Task> updateProgress(String taskId, String userId, int progressPercentage, TaskStatus status,
+                                     LocalDateTime updatedAt) {
+        return transition(TaskQueries.updateProgress(taskId, userId, progressPercentage, status, updatedAt));
+    }
+
+    @Override
+    public Mono<Task> submit(String taskId, String assigneeId, LocalDateTime updatedAt) {
+        return transition(TaskQueries.submit(taskId, assigneeId, updatedAt));
+    }
+
+    @Override
+    public Mono<Task> review(String taskId, String leaderId, boolean approved, LocalDateTime updatedAt) {
+        return transition(TaskQueries.review(taskId, leaderId, approved, updatedAt));
+    }
+
+    @Override
+    public Mono<Task> reassign(String taskId, Long version, UserSummary assignee, TaskStatus status,
+                               LocalDateTime updatedAt) {
+        return transition(TaskQueries.reassign(taskId, version, assignee, status, updatedAt));
+    }
+
+    private Mono<Task> transition(ConditionalUpdate change) {
+        return mongoTemplate.findAndModify(change.query(), change.update(), TaskQueries.returnPrevious(), Task.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.management.project.reactive.repositories;
+
+import com.management.project.models.User;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+// The reactive driver cannot resolve the @DBRef roles of a user, so these queries leave roles out
+@Repository
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+    String PROFILE_FIELDS = "{ 'username': 1, 'email': 1, 'fullName': 1 }";
+
+    @Query(fields = PROFILE_FIELDS)
+    Mono<User> findProfileById(String id);
+
+    @Query(fields = PROFILE_FIELDS)
+    Flux<User> findProfilesByIdIn(Collection<String> ids);
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.management.project.reactive.security;
+
+import com.management.project.security.UserDetailsImpl;
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import com.management.project.security.jwt.JwtUtils;
+import com.management.project.security.jwt.JwtValidationResult;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * Reactive counterpart of the backend's JwtAuthenticationFilter: the bearer token is checked
+ * against the same verified-token cache, and only on a miss is it parsed and the user loaded.
+ * The authentication travels in the Reactor context instead of a thread-local.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+    private final JwtUtils jwtUtils;
+    private final JwtAuthenticationCache authenticationCache;
+    private final ReactiveUserDetailsServiceImpl userDetailsService;
+
+    public JwtAuthenticationWebFilter(JwtUtils jwtUtils, JwtAuthenticationCache authenticationCache,
+                                      ReactiveUserDetailsServiceImpl userDetailsService) {
+        this.jwtUtils = jwtUtils;
+        this.authenticationCache = authenticationCache;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jwt = parseJwt(exchange.getRequest());
+        if (jwt == null) {
+            return chain.filter(exchange);
+        }
+
+        // Requests without a valid token continue unauthenticated and are rejected by the rules
+        return authenticate(jwt)
+                .map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())))
+                .onErrorResume(e -> Mono.empty())
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+
+    private Mono<UserDetailsImpl> authenticate(String jwt) {
+        UserDetailsImpl cached = authenticationCache.get(jwt);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        JwtValidationResult result = jwtUtils.parseJwtToken(jwt);
+        if (!result.isValid()) {
+            return Mono.empty();
+        }
+        return userDetailsService.findByUsername(result.getUsername())
+                .cast(UserDetailsImpl.class)
+                .doOnNext(userDetails -> authenticationCache.put(jwt, userDetails, result.getExpiration()));
+    }
+
+    private static String parseJwt(ServerHttpRequest request) {
+        String headerAuth = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
+            return headerAuth.substring(7);
+        }
+        return null;
+    }
+}
\ No newline at end of file
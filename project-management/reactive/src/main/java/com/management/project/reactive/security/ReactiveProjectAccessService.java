@@ -0,0 +1,73 @@
+package com.management.project.reactive.security;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.management.project.models.Project;
+import com.management.project.security.ProjectAccessService.ProjectAccess;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Reactive counterpart of ProjectAccessService, backed by an asynchronous cache so a miss
+ * does not block. Code here that changes a project must call {@link #evict}; changes made
+ * through the servlet backend are picked up when the entry expires.
+ */
+@Component
+public class ReactiveProjectAccessService {
+    private final AsyncLoadingCache<String, ProjectAccess> cache;
+
+    public ReactiveProjectAccessService(ReactiveMongoTemplate mongoTemplate,
+                                        @Value("${app.projectAccess.cache.maxSize:10000}") long maxSize,
+                                        @Value("${app.projectAccess.cache.ttlSeconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                // A project that does not exist completes with null and is not cached
+                .buildAsync((projectId, executor) -> mongoTemplate.findOne(idFields(projectId), Project.class)
+                        .map(ProjectAccess::of)
+                        .toFuture());
+    }
+
+    // Empty when the project does not exist
+    public Mono<ProjectAccess> find(String projectId) {
+        return projectId != null ? Mono.fromFuture(() -> cache.get(projectId)) : Mono.empty();
+    }
+
+    public Mono<Boolean> isLeader(String projectId, String userId) {
+        return find(projectId).map(access -> access.isLeader(userId)).defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> isMember(String projectId, String userId) {
+        return find(projectId).map(access -> access.isMember(userId)).defaultIfEmpty(false);
+    }
+
+    public Mono<Boolean> isMemberOrLeader(String projectId, String userId) {
+        return find(projectId).map(access -> access.isMember(userId) || access.isLeader(userId))
+                .defaultIfEmpty(false);
+    }
+
+    public void evict(String projectId) {
+        if (projectId != null) {
+            cache.synchronous().invalidate(projectId);
+        }
+    }
+
+    public AsyncLoadingCache<String, ProjectAccess> getCache() {
+        return cache;
+    }
+
+    private static Query idFields(String projectId) {
+        Query query = query(where("id").is(projectId));
+        query.fields().include("leaderId", "memberIds");
+        return query;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.management.project.reactive.security;
+
+import com.management.project.security.jwt.JwtAuthenticationCache;
+import com.management.project.security.jwt.JwtUtils;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain springSecurityFilterChain(ServerHttpSecurity http, JwtUtils jwtUtils,
+                                                            JwtAuthenticationCache authenticationCache,
+                                                            ReactiveUserDetailsServiceImpl userDetailsService) {
+        return http
+                .csrf(csrf -> csrf.disable())
+                .httpBasic(httpBasic -> httpBasic.disable())
+                .formLogin(formLogin -> formLogin.disable())
+                // Stateless, like the servlet backend: every request brings its token
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                // The servlet backend answers unauthenticated requests with 403
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.FORBIDDEN)))
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers(HttpMethod.OPTIONS).permitAll()
+                        // Only served on management.server.port, which stays off the public network
+                        .pathMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(new JwtAuthenticationWebFilter(jwtUtils, authenticationCache, userDetailsService),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.management.project.reactive.security;
+
+import com.management.project.models.Role;
+import com.management.project.security.UserDetailsImpl;
+import com.mongodb.DBRef;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Loads the principal for a token. Users keep their roles as DBRefs, which the reactive driver
+ * does not resolve, so the user is read as a raw document and the role ids are looked up in
+ * the roles collection. The roles are kept for a few minutes; an empty result, e.g. before the
+ * backend has seeded the collection, is not kept, so principals never lose their authorities
+ * for the life of the process.
+ */
+@Service
+public class ReactiveUserDetailsServiceImpl implements ReactiveUserDetailsService {
+    private static final Duration ROLES_TTL = Duration.ofMinutes(10);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final Mono<Map<Object, Role>> roles;
+
+    public ReactiveUserDetailsServiceImpl(ReactiveMongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+        this.roles = mongoTemplate.findAll(Role.class)
+                .collectMap(role -> (Object) role.getId(), Function.identity())
+                .cache(loaded -> loaded.isEmpty() ? Duration.ZERO : ROLES_TTL,
+                        error -> Duration.ZERO,
+                        () -> Duration.ZERO);
+    }
+
+    @Override
+    public Mono<UserDetails> findByUsername(String username) {
+        return mongoTemplate.findOne(query(where("username").is(username)), Document.class, "users")
+                .zipWith(roles, ReactiveUserDetailsServiceImpl::build);
+    }
+
+    private static UserDetails build(Document user, Map<Object, Role> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Object reference : user.getList("roles", Object.class, List.of())) {
+            Role role = reference instanceof DBRef dbRef ? roles.get(dbRef.getId().toString()) : null;
+            if (role != null) {
+                authorities.add(new SimpleGrantedAuthority(role.getName().name()));
+            }
+        }
+
+        return new UserDetailsImpl(
+                user.getObjectId("_id").toHexString(),
+                user.getString("username"),
+                user.getString("email"),
+                user.getString("password"),
+                authorities);
+    }
+}
\ No newline at end of file
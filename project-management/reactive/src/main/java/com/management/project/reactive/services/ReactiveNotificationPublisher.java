@@ -0,0 +1,69 @@
+package com.management.project.reactive.services;
+
+import com.management.project.models.Notification;
+import com.management.project.models.NotificationCounter;
+import com.management.project.models.Project;
+import com.management.project.models.Task;
+import com.management.project.services.NotificationFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Stores the same notifications as the backend's NotificationService, without waiting for
+ * them in the request. Open event streams live in the backend, so recipients see these on
+ * their next list request or reconnect rather than immediately.
+ */
+@Service
+public class ReactiveNotificationPublisher {
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveNotificationPublisher.class);
+
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    public void taskAssigned(Task task) {
+        publish(Mono.justOrEmpty(NotificationFactory.taskAssigned(task)));
+    }
+
+    public void taskSubmitted(Task task) {
+        publish(Mono.justOrEmpty(NotificationFactory.taskSubmitted(task)));
+    }
+
+    public void taskReviewed(Task task, boolean approved) {
+        publish(Mono.justOrEmpty(NotificationFactory.taskReviewed(task, approved)));
+    }
+
+    public void addedToProject(String projectId, Collection<String> userIds) {
+        publish(mongoTemplate.findById(projectId, Project.class)
+                .flatMapMany(project -> Flux.fromIterable(userIds)
+                        .mapNotNull(userId -> NotificationFactory.addedToProject(project, userId))));
+    }
+
+    public void removedFromProject(String projectId, String userId) {
+        publish(mongoTemplate.findById(projectId, Project.class)
+                .mapNotNull(project -> NotificationFactory.removedFromProject(project, userId)));
+    }
+
+    private void publish(Flux<Notification> notifications) {
+        notifications
+                .concatMap(notification -> mongoTemplate.insert(notification))
+                // Only bumps an existing counter; a missing one is built from a count when first read
+                .concatMap(saved -> mongoTemplate.updateFirst(query(where("userId").is(saved.getUserId())),
+                        new Update().inc("unread", 1), NotificationCounter.class))
+                .subscribe(null, e -> logger.error("Could not publish notification", e));
+    }
+
+    private void publish(Mono<Notification> notification) {
+        publish(notification.flux());
+    }
+}
\ No newline at end of file
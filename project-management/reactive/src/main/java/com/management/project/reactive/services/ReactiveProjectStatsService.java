@@ -0,0 +1,78 @@
+package com.management.project.reactive.services;
+
+import com.management.project.models.ProjectStats;
+import com.management.project.models.Task;
+import com.management.project.payload.response.TaskStats;
+import com.management.project.reactive.repositories.ReactiveTaskRepository;
+import com.management.project.services.ProjectStatsService;
+import com.management.project.services.ProjectStatsService.TaskState;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Reactive counterpart of ProjectStatsService. It applies the same $inc to the rollup; the
+ * nightly rebuild keeps running in the servlet backend.
+ */
+@Service
+public class ReactiveProjectStatsService {
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ReactiveTaskRepository taskRepository;
+
+    public Mono<Void> taskCreated(Task task) {
+        return applyChange(task.getProjectId(), null, TaskState.of(task));
+    }
+
+    public Mono<Void> taskChanged(String projectId, TaskState before, Task after) {
+        return applyChange(projectId, before, TaskState.of(after));
+    }
+
+    private Mono<Void> applyChange(String projectId, TaskState before, TaskState after) {
+        Update update = ProjectStatsService.changeOf(before, after);
+        if (update == null) {
+            return Mono.empty();
+        }
+        // As in ProjectStatsService, a missing rollup is built from the tasks rather than upserted
+        return mongoTemplate.updateFirst(query(where("projectId").is(projectId)), update, ProjectStats.class)
+                .flatMap(result -> result.getMatchedCount() > 0 ? Mono.empty() : seed(projectId));
+    }
+
+    private Mono<Void> seed(String projectId) {
+        return taskRepository.computeProjectStats(projectId)
+                .flatMap(stats -> {
+                    stats.setRebuiltAt(LocalDateTime.now());
+                    return mongoTemplate.upsert(query(where("projectId").is(projectId)),
+                            ProjectStatsService.insertOnly(stats, mongoTemplate.getConverter()), ProjectStats.class);
+                })
+                .then();
+    }
+
+    public Mono<TaskStats> getStats(String projectId) {
+        // Projects created before the rollup existed get it built on first read
+        Mono<ProjectStats> projectStats = mongoTemplate.findById(projectId, ProjectStats.class)
+                .switchIfEmpty(Mono.defer(() -> rebuild(projectId)));
+        return projectStats.zipWith(taskRepository.countOverdueByProjectId(projectId), ProjectStatsService::toTaskStats);
+    }
+
+    public Mono<ProjectStats> rebuild(String projectId) {
+        return taskRepository.computeProjectStats(projectId)
+                .flatMap(stats -> {
+                    stats.setRebuiltAt(LocalDateTime.now());
+                    return mongoTemplate.save(stats);
+                });
+    }
+
+    public Mono<Void> delete(String projectId) {
+        return mongoTemplate.remove(query(where("projectId").is(projectId)), ProjectStats.class).then();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.management.project.reactive.services;
+
+import com.management.project.models.Project;
+import com.management.project.models.ProjectSummary;
+import com.management.project.models.Task;
+import com.management.project.reactive.repositories.ReactiveProjectRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Reactive counterpart of SummarySyncService for the project summary embedded in tasks. Project
+ * edits are $set updates rather than saves, so nothing triggers it but the caller.
+ */
+@Service
+public class ReactiveSummarySyncService {
+    @Autowired
+    private ReactiveMongoTemplate mongoTemplate;
+
+    @Autowired
+    private ReactiveProjectRepository projectRepository;
+
+    public Mono<Void> refreshProjectSummaries(Project project) {
+        return mongoTemplate.updateMulti(query(where("projectId").is(project.getId())),
+                        new Update().set("project", ProjectSummary.of(project)), Task.class)
+                .then(projectRepository.incrementTasksRevision(List.of(project.getId())));
+    }
+}
\ No newline at end of file